@@ -0,0 +1,192 @@
+package com.example.hexagonalapp.application.service;
+
+import com.example.hexagonalapp.application.dto.UserSummary;
+import com.example.hexagonalapp.application.port.out.UserRepository;
+import com.example.hexagonalapp.domain.model.domainexception.EmailAlreadyExistsException;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.UserId;
+import com.example.hexagonalapp.domain.service.UserDomainService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Orchestration cost of UserApplicationService with in-memory ports, i.e. everything on the
+ * create and get paths except I/O: validation, value objects, domain rules, port calls and
+ * event creation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UserApplicationServiceBenchmark {
+    private static final int PRELOADED_USERS = 1024;
+    private static final long MISSING_USER_ID = Long.MAX_VALUE;
+
+    private InMemoryUserRepository repository;
+    private UserApplicationService service;
+    private String[] createEmails;
+    private int created;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void prepareEmails() {
+        // Unique emails are prepared up front so string building is not part of the measurement
+        createEmails = new String[1 << 18];
+        for (int i = 0; i < createEmails.length; i++) {
+            createEmails[i] = "new.user" + i + "@example.com";
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        repository = new InMemoryUserRepository();
+        service = new UserApplicationService(repository, (email, name) -> { }, new UserDomainService(), event -> { });
+        for (int i = 0; i < PRELOADED_USERS; i++) {
+            service.createUser("Existing User " + i, "existing" + i + "@example.com");
+        }
+        created = 0;
+        nextId = 0;
+    }
+
+    @Benchmark
+    public User createUser() {
+        if (created == createEmails.length) {
+            // Past the prepared inputs the emails would repeat; start again on an empty repository
+            repository.clear();
+            created = 0;
+        }
+        return service.createUser("New User", createEmails[created++]);
+    }
+
+    @Benchmark
+    public User getUser() {
+        nextId = nextId % PRELOADED_USERS + 1;
+        return service.getUser(nextId);
+    }
+
+    /**
+     * Not-found path: the result is the exception the web adapter turns into a 404.
+     */
+    @Benchmark
+    public RuntimeException getUserNotFound() {
+        try {
+            service.getUser(MISSING_USER_ID);
+            throw new IllegalStateException("User " + MISSING_USER_ID + " should not exist");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * HashMap-backed repository; single-threaded like the benchmark state.
+     */
+    static class InMemoryUserRepository implements UserRepository {
+        private final Map<Long, User> usersById = new HashMap<>();
+        private final Set<String> emails = new HashSet<>();
+        private final Map<String, User> usersByEmail = new HashMap<>();
+        private long sequence;
+
+        void clear() {
+            usersById.clear();
+            emails.clear();
+            usersByEmail.clear();
+        }
+
+        @Override
+        public User save(User user) {
+            User owner = usersByEmail.get(user.getEmail().getValue());
+            if (owner != null && owner != user) {
+                throw new EmailAlreadyExistsException();
+            }
+            if (user.getId() == null) {
+                user.setId(new UserId(++sequence));
+            }
+            usersById.put(user.getId().getValue(), user);
+            emails.add(user.getEmail().getValue());
+            usersByEmail.put(user.getEmail().getValue(), user);
+            return user;
+        }
+
+        @Override
+        public List<User> saveAll(List<User> users) {
+            List<User> saved = new ArrayList<>(users.size());
+            for (User user : users) {
+                saved.add(save(user));
+            }
+            return saved;
+        }
+
+        @Override
+        public Optional<User> findById(Long id) {
+            return Optional.ofNullable(usersById.get(id));
+        }
+
+        @Override
+        public List<User> findAllById(Collection<Long> ids) {
+            List<User> users = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                User user = usersById.get(id);
+                if (user != null) {
+                    users.add(user);
+                }
+            }
+            return users;
+        }
+
+        @Override
+        public Optional<User> findByEmail(EmailAddress email) {
+            return Optional.ofNullable(usersByEmail.get(email.getValue()));
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            return emails.contains(email);
+        }
+
+        @Override
+        public Set<String> existsByEmailIn(Collection<String> candidates) {
+            Set<String> existing = new HashSet<>();
+            for (String email : candidates) {
+                if (emails.contains(email)) {
+                    existing.add(email);
+                }
+            }
+            return existing;
+        }
+
+        @Override
+        public void forEachEmail(Consumer<String> action) {
+            emails.forEach(action);
+        }
+
+        @Override
+        public List<UserSummary> findSummariesAfter(long afterId, int limit) {
+            List<UserSummary> page = new ArrayList<>(limit);
+            for (long id = afterId + 1; id <= sequence && page.size() < limit; id++) {
+                User user = usersById.get(id);
+                if (user != null) {
+                    page.add(new UserSummary(id, user.getName().getValue(), user.getEmail().getValue()));
+                }
+            }
+            return page;
+        }
+
+        @Override
+        public void forEachSummary(Consumer<UserSummary> action) {
+            findSummariesAfter(0, usersById.size()).forEach(action);
+        }
+    }
+}
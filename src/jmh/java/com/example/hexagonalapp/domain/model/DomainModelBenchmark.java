@@ -0,0 +1,55 @@
+package com.example.hexagonalapp.domain.model;
+
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.Name;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction cost of the domain model: EmailAddress (regex validation and normalization),
+ * Name (trim and length checks) and a whole User.
+ * Inputs rotate over a fixed set of realistic values so the JIT cannot fold them away.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DomainModelBenchmark {
+    private static final int INPUTS = 1024;
+
+    private final String[] emails = new String[INPUTS];
+    private final String[] names = new String[INPUTS];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < INPUTS; i++) {
+            emails[i] = "User.Number" + i + "@Example" + (i % 7) + ".com";
+            names[i] = " User Number " + i + " ";
+        }
+    }
+
+    private int nextIndex() {
+        return next = (next + 1) & (INPUTS - 1);
+    }
+
+    @Benchmark
+    public EmailAddress emailAddress() {
+        return new EmailAddress(emails[nextIndex()]);
+    }
+
+    @Benchmark
+    public Name name() {
+        return new Name(names[nextIndex()]);
+    }
+
+    @Benchmark
+    public User user() {
+        int i = nextIndex();
+        return new User(new Name(names[i]), new EmailAddress(emails[i]));
+    }
+}
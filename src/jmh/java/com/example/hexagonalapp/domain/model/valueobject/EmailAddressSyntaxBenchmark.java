@@ -0,0 +1,72 @@
+package com.example.hexagonalapp.domain.model.valueobject;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Email validation and normalization: the former regex plus trim().toLowerCase() against
+ * EmailAddressSyntax on Strings and on UTF-8 byte ranges (as an importer would see them).
+ * Inputs mix lower-case, mixed-case and invalid addresses.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EmailAddressSyntaxBenchmark {
+    private static final Pattern REGEX = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+    private static final int INPUTS = 1024;
+
+    private final String[] emails = new String[INPUTS];
+    private final byte[][] bytes = new byte[INPUTS][];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < INPUTS; i++) {
+            emails[i] = switch (i % 4) {
+                case 0, 1 -> "user.number" + i + "@example" + (i % 7) + ".com";
+                case 2 -> "User.Number" + i + "@Example" + (i % 7) + ".COM";
+                default -> "user number " + i + "@example.c";
+            };
+            bytes[i] = emails[i].getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private int nextIndex() {
+        return next = (next + 1) & (INPUTS - 1);
+    }
+
+    @Benchmark
+    public String regexAndNormalize() {
+        String email = emails[nextIndex()];
+        return REGEX.matcher(email).matches() ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    @Benchmark
+    public String syntaxAndNormalize() {
+        String email = emails[nextIndex()];
+        return EmailAddressSyntax.isValid(email) ? EmailAddressSyntax.toLowerCase(email) : null;
+    }
+
+    @Benchmark
+    public boolean regexOnly() {
+        return REGEX.matcher(emails[nextIndex()]).matches();
+    }
+
+    @Benchmark
+    public boolean syntaxOnly() {
+        return EmailAddressSyntax.isValid(emails[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean syntaxOnBytes() {
+        byte[] email = bytes[nextIndex()];
+        return EmailAddressSyntax.isValid(email, 0, email.length);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.hexagonalapp.infrastructure.adapter.in;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of UserResponse, the body of every single-user endpoint.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UserResponseSerializationBenchmark {
+    private ObjectWriter writer;
+    private UserResponse response;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper().writerFor(UserResponse.class);
+        response = new UserResponse(123456L, "User Number 123456", "user.number123456@example.com");
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+}
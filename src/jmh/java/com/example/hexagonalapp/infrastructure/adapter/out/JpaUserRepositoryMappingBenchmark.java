@@ -0,0 +1,76 @@
+package com.example.hexagonalapp.infrastructure.adapter.out;
+
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.Name;
+import com.example.hexagonalapp.domain.model.valueobject.UserId;
+import com.example.hexagonalapp.infrastructure.adapter.out.outbox.OutboxWriter;
+import com.example.hexagonalapp.infrastructure.persistence.entity.UserEntity;
+import com.example.hexagonalapp.infrastructure.persistence.intern.ValueObjectInterner;
+import com.example.hexagonalapp.infrastructure.persistence.routing.ReadYourWrites;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping between the persistence and domain models in JpaUserRepository.
+ * toDomain runs for every loaded row. toDomainValidated is the former mapping, which validated
+ * the stored values again, kept as the baseline. The interning capacity shows the effect of
+ * reusing value objects when the same users are read repeatedly (1024 distinct rows).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JpaUserRepositoryMappingBenchmark {
+    private static final int INPUTS = 1024;
+
+    @Param({"0", "4096"})
+    public int interningCapacity;
+
+    private final UserEntity[] entities = new UserEntity[INPUTS];
+    private final User[] users = new User[INPUTS];
+    private JpaUserRepository repository;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        // Only the mapping methods are exercised, so no Spring Data repository or outbox is needed
+        StaticListableBeanFactory noBeans = new StaticListableBeanFactory();
+        repository = new JpaUserRepository(null, noBeans.getBeanProvider(OutboxWriter.class),
+                new ValueObjectInterner(interningCapacity), noBeans.getBeanProvider(ReadYourWrites.class));
+        for (int i = 0; i < INPUTS; i++) {
+            UserEntity entity = new UserEntity("User Number " + i, "user.number" + i + "@example.com");
+            entity.setId((long) i + 1);
+            entities[i] = entity;
+            User user = new User(new Name("User Number " + i), new EmailAddress("user.number" + i + "@example.com"));
+            user.setId(new UserId((long) i + 1));
+            users[i] = user;
+        }
+    }
+
+    private int nextIndex() {
+        return next = (next + 1) & (INPUTS - 1);
+    }
+
+    @Benchmark
+    public User toDomain() {
+        return repository.toDomain(entities[nextIndex()]);
+    }
+
+    @Benchmark
+    public User toDomainValidated() {
+        UserEntity entity = entities[nextIndex()];
+        User user = new User(new Name(entity.getName()), new EmailAddress(entity.getEmail()));
+        user.setId(new UserId(entity.getId()));
+        return user;
+    }
+
+    @Benchmark
+    public UserEntity toEntity() {
+        return repository.toEntity(users[nextIndex()]);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.event;
+
+import com.example.hexagonalapp.domain.model.domainevent.UserCreatedEvent;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.Name;
+import com.example.hexagonalapp.domain.model.valueobject.UserId;
+import com.example.hexagonalapp.infrastructure.adapter.config.WorkerThreadFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of InProcessDomainEventPublisher.publish as seen by request threads, with several
+ * publishers contending for the same lanes. Throughput gives the sustainable publish rate and
+ * SampleTime the latency distribution of a single call. The dropped count printed at the end
+ * shows whether the subscriber kept up.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class InProcessDomainEventPublisherBenchmark {
+    private static final int EVENTS = 1024;
+
+    @Param({"1", "4"})
+    public int lanesPerSubscriber;
+
+    private final UserCreatedEvent[] events = new UserCreatedEvent[EVENTS];
+    private InProcessDomainEventPublisher publisher;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        DomainEventProperties properties = new DomainEventProperties();
+        properties.setLanesPerSubscriber(lanesPerSubscriber);
+        DomainEventSubscriber noOp = event -> { };
+        publisher = new InProcessDomainEventPublisher(List.of(noOp), properties, new WorkerThreadFactory(false));
+        for (int i = 0; i < EVENTS; i++) {
+            User user = new User(new Name("User Number " + i), new EmailAddress("user.number" + i + "@example.com"));
+            user.setId(new UserId((long) i + 1));
+            events[i] = new UserCreatedEvent(user);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        System.out.printf("%npublished=%d delivered=%d dropped=%d%n",
+                publisher.publishedCount(), publisher.deliveredCount(), publisher.droppedCount());
+        publisher.shutdown();
+    }
+
+    @Benchmark
+    public void publish(Cursor cursor) {
+        cursor.next = (cursor.next + 1) & (EVENTS - 1);
+        publisher.publish(events[cursor.next]);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.hexagonalapp.infrastructure.persistence.id;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting a chunk of users on H2 with the two ID strategies, replayed over plain JDBC the way
+ * Hibernate issues them:
+ * - IDENTITY: one INSERT per row with generated keys, no JDBC batching possible.
+ * - Sequence (pooled-lo): one NEXT VALUE per allocationSize rows, then a single JDBC batch.
+ * One operation inserts and commits {@link #ROWS} rows. The identity runs do not depend on allocationSize.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class UserIdGenerationBenchmark {
+    static final int ROWS = 50;
+
+    @Param({"1", "50"})
+    public int allocationSize;
+
+    private Connection connection;
+    private PreparedStatement identityInsert;
+    private PreparedStatement sequenceInsert;
+    private PreparedStatement nextValue;
+    private long hi;
+    private long lo;
+    private long counter;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:id_benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            statement.execute("CREATE TABLE users_identity (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                    + "name VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL)");
+            statement.execute("CREATE TABLE users_sequence (id BIGINT PRIMARY KEY, "
+                    + "name VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL)");
+            statement.execute("CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY " + allocationSize);
+        }
+        connection.setAutoCommit(false);
+        identityInsert = connection.prepareStatement("INSERT INTO users_identity (name, email) VALUES (?, ?)",
+                Statement.RETURN_GENERATED_KEYS);
+        sequenceInsert = connection.prepareStatement("INSERT INTO users_sequence (id, name, email) VALUES (?, ?, ?)");
+        nextValue = connection.prepareStatement("SELECT NEXT VALUE FOR users_seq");
+        lo = allocationSize;
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE users_identity");
+            statement.execute("TRUNCATE TABLE users_sequence");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long identity() throws SQLException {
+        long lastId = 0;
+        for (int i = 0; i < ROWS; i++) {
+            long n = counter++;
+            identityInsert.setString(1, "User " + n);
+            identityInsert.setString(2, "user" + n + "@example.com");
+            identityInsert.executeUpdate();
+            try (ResultSet keys = identityInsert.getGeneratedKeys()) {
+                keys.next();
+                lastId = keys.getLong(1);
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long sequencePooledLo() throws SQLException {
+        long lastId = 0;
+        for (int i = 0; i < ROWS; i++) {
+            long n = counter++;
+            lastId = nextId();
+            sequenceInsert.setLong(1, lastId);
+            sequenceInsert.setString(2, "User " + n);
+            sequenceInsert.setString(3, "user" + n + "@example.com");
+            sequenceInsert.addBatch();
+        }
+        sequenceInsert.executeBatch();
+        connection.commit();
+        return lastId;
+    }
+
+    /**
+     * Pooled-lo: the sequence value is the low end of a block of allocationSize IDs.
+     */
+    private long nextId() throws SQLException {
+        if (lo == allocationSize) {
+            try (ResultSet resultSet = nextValue.executeQuery()) {
+                resultSet.next();
+                hi = resultSet.getLong(1);
+            }
+            lo = 0;
+        }
+        return hi + lo++;
+    }
+}
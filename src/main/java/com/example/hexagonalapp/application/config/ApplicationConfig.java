@@ -1,13 +1,35 @@
 package com.example.hexagonalapp.application.config;
 
 import com.example.hexagonalapp.application.port.in.CreateUserUseCase;
+import com.example.hexagonalapp.application.port.in.CreateUsersBatchUseCase;
+import com.example.hexagonalapp.application.port.in.ExportUsersUseCase;
+import com.example.hexagonalapp.application.port.in.FindUserByEmailUseCase;
 import com.example.hexagonalapp.application.port.in.GetUserUseCase;
+import com.example.hexagonalapp.application.port.in.GetUsersUseCase;
+import com.example.hexagonalapp.application.port.in.ImportUsersUseCase;
+import com.example.hexagonalapp.application.port.in.ListUsersUseCase;
+import com.example.hexagonalapp.application.port.in.ReactiveCreateUserUseCase;
+import com.example.hexagonalapp.application.port.in.ReactiveGetUserUseCase;
+import com.example.hexagonalapp.application.port.out.DomainEventPublisher;
 import com.example.hexagonalapp.application.port.out.EmailService;
+import com.example.hexagonalapp.application.port.out.PortMetrics;
+import com.example.hexagonalapp.application.port.out.ReactiveUserRepository;
 import com.example.hexagonalapp.application.port.out.UserRepository;
+import com.example.hexagonalapp.application.service.BloomFilteredUserRepository;
+import com.example.hexagonalapp.application.service.CachingUserRepository;
+import com.example.hexagonalapp.application.service.CoalescingUserRepository;
+import com.example.hexagonalapp.application.service.ReactiveUserApplicationService;
+import com.example.hexagonalapp.application.service.TimedPorts;
 import com.example.hexagonalapp.application.service.UserApplicationService;
 import com.example.hexagonalapp.domain.service.UserDomainService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
 
 /**
  * Spring Configuration class in the Infrastructure layer.
@@ -15,6 +37,7 @@ import org.springframework.context.annotation.Configuration;
  * It wires use case interfaces to their implementations.
  */
 @Configuration
+@EnableConfigurationProperties({UserCacheProperties.class, EmailFilterProperties.class, UserCoalescingProperties.class})
 public class ApplicationConfig {
 
     @Bean
@@ -23,12 +46,143 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public CreateUserUseCase createUserUseCase(UserRepository userRepository, EmailService emailService, UserDomainService userDomainService) {
-        return new UserApplicationService(userRepository, emailService, userDomainService);
+    @ConditionalOnProperty(prefix = "app.email-filter", name = "enabled", havingValue = "true")
+    public BloomFilteredUserRepository bloomFilteredUserRepository(@Qualifier("jpaUserRepository") UserRepository persistence,
+                                                                   EmailFilterProperties emailFilterProperties) {
+        BloomFilteredUserRepository filtered = new BloomFilteredUserRepository(persistence,
+                emailFilterProperties.getExpectedInsertions(), emailFilterProperties.getFalsePositiveRate());
+        // Warm the filter from the users table before any request is served
+        filtered.rebuild();
+        return filtered;
     }
 
     @Bean
-    public GetUserUseCase getUserUseCase(UserRepository userRepository, EmailService emailService, UserDomainService userDomainService) {
-        return new UserApplicationService(userRepository, emailService, userDomainService);
+    @ConditionalOnProperty(prefix = "app.coalescing.users", name = "enabled", havingValue = "true")
+    public CoalescingUserRepository coalescingUserRepository(@Qualifier("jpaUserRepository") UserRepository persistence,
+                                                             ObjectProvider<BloomFilteredUserRepository> filtered,
+                                                             UserCoalescingProperties coalescingProperties) {
+        // Inside the cache, so only misses are coalesced and hits never wait on a flight
+        return new CoalescingUserRepository(outermost(persistence, filtered), coalescingProperties.getBatchWindow(),
+                coalescingProperties.getMaxBatchSize());
     }
-}
\ No newline at end of file
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.users", name = "enabled", havingValue = "true")
+    public CachingUserRepository cachingUserRepository(@Qualifier("jpaUserRepository") UserRepository persistence,
+                                                       ObjectProvider<BloomFilteredUserRepository> filtered,
+                                                       ObjectProvider<CoalescingUserRepository> coalescing,
+                                                       UserCacheProperties cacheProperties) {
+        return new CachingUserRepository(outermost(persistence, coalescing, filtered), cacheProperties.getMaxSize(),
+                cacheProperties.getTtl());
+    }
+
+    /**
+     * UserRepository port seen by the use cases: the persistence adapter wrapped with the
+     * decorators enabled in configuration, and timed. The decorators are beans of their own
+     * so their statistics can be bound to metrics.
+     */
+    @Bean
+    @Primary
+    public UserRepository userRepositoryPort(@Qualifier("jpaUserRepository") UserRepository persistence,
+                                             ObjectProvider<BloomFilteredUserRepository> filtered,
+                                             ObjectProvider<CoalescingUserRepository> coalescing,
+                                             ObjectProvider<CachingUserRepository> caching,
+                                             PortMetrics portMetrics) {
+        // Outermost, so the timings are what the use cases see, cache hits included
+        return TimedPorts.userRepository(outermost(persistence, caching, coalescing, filtered), portMetrics);
+    }
+
+    @Bean
+    public CreateUserUseCase createUserUseCase(UserRepository userRepository, EmailService emailService, UserDomainService userDomainService,
+                                               DomainEventPublisher domainEventPublisher, PortMetrics portMetrics) {
+        return TimedPorts.createUser(
+                userApplicationService(userRepository, emailService, userDomainService, domainEventPublisher, portMetrics), portMetrics);
+    }
+
+    @Bean
+    public CreateUsersBatchUseCase createUsersBatchUseCase(UserRepository userRepository, EmailService emailService, UserDomainService userDomainService,
+                                                           DomainEventPublisher domainEventPublisher, PortMetrics portMetrics) {
+        return TimedPorts.createUsers(
+                userApplicationService(userRepository, emailService, userDomainService, domainEventPublisher, portMetrics), portMetrics);
+    }
+
+    @Bean
+    public GetUserUseCase getUserUseCase(UserRepository userRepository, EmailService emailService, UserDomainService userDomainService,
+                                         DomainEventPublisher domainEventPublisher, PortMetrics portMetrics) {
+        return TimedPorts.getUser(
+                userApplicationService(userRepository, emailService, userDomainService, domainEventPublisher, portMetrics), portMetrics);
+    }
+
+    @Bean
+    public GetUsersUseCase getUsersUseCase(UserRepository userRepository, EmailService emailService, UserDomainService userDomainService,
+                                           DomainEventPublisher domainEventPublisher, PortMetrics portMetrics) {
+        return TimedPorts.getUsers(
+                userApplicationService(userRepository, emailService, userDomainService, domainEventPublisher, portMetrics), portMetrics);
+    }
+
+    @Bean
+    public FindUserByEmailUseCase findUserByEmailUseCase(UserRepository userRepository, EmailService emailService, UserDomainService userDomainService,
+                                                         DomainEventPublisher domainEventPublisher, PortMetrics portMetrics) {
+        return TimedPorts.findUserByEmail(
+                userApplicationService(userRepository, emailService, userDomainService, domainEventPublisher, portMetrics), portMetrics);
+    }
+
+    @Bean
+    public ListUsersUseCase listUsersUseCase(UserRepository userRepository, EmailService emailService, UserDomainService userDomainService,
+                                             DomainEventPublisher domainEventPublisher, PortMetrics portMetrics) {
+        return TimedPorts.listUsers(
+                userApplicationService(userRepository, emailService, userDomainService, domainEventPublisher, portMetrics), portMetrics);
+    }
+
+    @Bean
+    public ExportUsersUseCase exportUsersUseCase(UserRepository userRepository, EmailService emailService, UserDomainService userDomainService,
+                                                 DomainEventPublisher domainEventPublisher, PortMetrics portMetrics) {
+        return TimedPorts.exportUsers(
+                userApplicationService(userRepository, emailService, userDomainService, domainEventPublisher, portMetrics), portMetrics);
+    }
+
+    @Bean
+    public ImportUsersUseCase importUsersUseCase(UserRepository userRepository, EmailService emailService, UserDomainService userDomainService,
+                                                 DomainEventPublisher domainEventPublisher, PortMetrics portMetrics) {
+        return TimedPorts.importUsers(
+                userApplicationService(userRepository, emailService, userDomainService, domainEventPublisher, portMetrics), portMetrics);
+    }
+
+    @Bean
+    @Profile("reactive")
+    public ReactiveCreateUserUseCase reactiveCreateUserUseCase(ReactiveUserRepository reactiveUserRepository, EmailService emailService,
+                                                               UserDomainService userDomainService, DomainEventPublisher domainEventPublisher,
+                                                               PortMetrics portMetrics) {
+        return new ReactiveUserApplicationService(reactiveUserRepository, TimedPorts.emailService(emailService, portMetrics),
+                userDomainService, domainEventPublisher);
+    }
+
+    @Bean
+    @Profile("reactive")
+    public ReactiveGetUserUseCase reactiveGetUserUseCase(ReactiveUserRepository reactiveUserRepository, EmailService emailService,
+                                                         UserDomainService userDomainService, DomainEventPublisher domainEventPublisher,
+                                                         PortMetrics portMetrics) {
+        return new ReactiveUserApplicationService(reactiveUserRepository, TimedPorts.emailService(emailService, portMetrics),
+                userDomainService, domainEventPublisher);
+    }
+
+    // Decorators wrap each other in the order bloom filter, coalescing, cache; layers are listed outermost first
+    @SafeVarargs
+    private static UserRepository outermost(UserRepository persistence, ObjectProvider<? extends UserRepository>... layers) {
+        for (ObjectProvider<? extends UserRepository> layer : layers) {
+            UserRepository decorator = layer.getIfAvailable();
+            if (decorator != null) {
+                return decorator;
+            }
+        }
+        return persistence;
+    }
+
+    // Use cases see the timed EmailService; the UserRepository port is timed in userRepositoryPort
+    private static UserApplicationService userApplicationService(UserRepository userRepository, EmailService emailService,
+                                                                 UserDomainService userDomainService,
+                                                                 DomainEventPublisher domainEventPublisher, PortMetrics portMetrics) {
+        return new UserApplicationService(userRepository, TimedPorts.emailService(emailService, portMetrics),
+                userDomainService, domainEventPublisher);
+    }
+}
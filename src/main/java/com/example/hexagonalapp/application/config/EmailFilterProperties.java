@@ -0,0 +1,38 @@
+package com.example.hexagonalapp.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the email uniqueness Bloom filter ({@code app.email-filter.*}).
+ * The filter is disabled unless {@code enabled} is set to true.
+ */
+@ConfigurationProperties(prefix = "app.email-filter")
+public class EmailFilterProperties {
+    private boolean enabled = false;
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveRate = 0.01;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public void setExpectedInsertions(long expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.hexagonalapp.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the user read-through cache ({@code app.cache.users.*}).
+ * The cache is disabled unless {@code enabled} is set to true.
+ */
+@ConfigurationProperties(prefix = "app.cache.users")
+public class UserCacheProperties {
+    private boolean enabled = false;
+    private int maxSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(10);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.hexagonalapp.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for coalescing concurrent user lookups by ID ({@code app.coalescing.users.*}).
+ * Coalescing is disabled unless {@code enabled} is set to true; a zero {@code batchWindow} only
+ * shares lookups of the same ID, a positive one also batches different IDs into one query.
+ */
+@ConfigurationProperties(prefix = "app.coalescing.users")
+public class UserCoalescingProperties {
+    private boolean enabled = false;
+    private Duration batchWindow = Duration.ZERO;
+    private int maxBatchSize = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getBatchWindow() {
+        return batchWindow;
+    }
+
+    public void setBatchWindow(Duration batchWindow) {
+        this.batchWindow = batchWindow;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+}
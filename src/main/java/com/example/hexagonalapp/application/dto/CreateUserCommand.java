@@ -0,0 +1,23 @@
+package com.example.hexagonalapp.application.dto;
+
+/**
+ * Command DTO carrying the raw input for creating a single User in the Application layer.
+ * Values are validated when the corresponding domain value objects are built.
+ */
+public class CreateUserCommand {
+    private final String name;
+    private final String email;
+
+    public CreateUserCommand(String name, String email) {
+        this.name = name;
+        this.email = email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.hexagonalapp.application.dto;
+
+import com.example.hexagonalapp.domain.model.entity.User;
+
+/**
+ * Per-item outcome of a batch user creation in the Application layer.
+ * Either carries the created User or the reason the item was rejected.
+ */
+public class UserCreationResult {
+    private final int index;
+    private final String email;
+    private final User user;
+    private final String error;
+
+    private UserCreationResult(int index, String email, User user, String error) {
+        this.index = index;
+        this.email = email;
+        this.user = user;
+        this.error = error;
+    }
+
+    public static UserCreationResult created(int index, User user) {
+        return new UserCreationResult(index, user.getEmail().getValue(), user, null);
+    }
+
+    public static UserCreationResult rejected(int index, String email, String error) {
+        return new UserCreationResult(index, email, null, error);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isCreated() {
+        return user != null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.hexagonalapp.application.dto;
+
+/**
+ * Running totals of a bulk user import in the Application layer.
+ * Reported after every committed chunk and once more when the import finishes.
+ */
+public class UserImportSummary {
+    private final long processed;
+    private final long created;
+    private final long rejected;
+
+    public UserImportSummary(long processed, long created, long rejected) {
+        this.processed = processed;
+        this.created = created;
+        this.rejected = rejected;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+}
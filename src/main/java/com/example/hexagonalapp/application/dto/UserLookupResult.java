@@ -0,0 +1,27 @@
+package com.example.hexagonalapp.application.dto;
+
+import com.example.hexagonalapp.domain.model.entity.User;
+
+import java.util.List;
+
+/**
+ * Outcome of looking up many users by ID in the Application layer.
+ * Found users follow the order of the requested IDs; IDs without a user are listed as missing.
+ */
+public class UserLookupResult {
+    private final List<User> users;
+    private final List<Long> missingIds;
+
+    public UserLookupResult(List<User> users, List<Long> missingIds) {
+        this.users = users;
+        this.missingIds = missingIds;
+    }
+
+    public List<User> getUsers() {
+        return users;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.hexagonalapp.application.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated user listing in the Application layer.
+ * {@code nextAfterId} is the last ID of this page when more users follow, otherwise null.
+ */
+public class UserPage {
+    private final List<UserSummary> items;
+    private final Long nextAfterId;
+
+    public UserPage(List<UserSummary> items, Long nextAfterId) {
+        this.items = items;
+        this.nextAfterId = nextAfterId;
+    }
+
+    public List<UserSummary> getItems() {
+        return items;
+    }
+
+    public Long getNextAfterId() {
+        return nextAfterId;
+    }
+
+    public boolean hasNext() {
+        return nextAfterId != null;
+    }
+}
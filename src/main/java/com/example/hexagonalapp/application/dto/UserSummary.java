@@ -0,0 +1,29 @@
+package com.example.hexagonalapp.application.dto;
+
+/**
+ * Read-only projection of a stored User in the Application layer.
+ * Built straight from query results for listings, without materializing the domain entity.
+ */
+public class UserSummary {
+    private final Long id;
+    private final String name;
+    private final String email;
+
+    public UserSummary(Long id, String name, String email) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
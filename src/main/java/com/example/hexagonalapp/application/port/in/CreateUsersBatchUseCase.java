@@ -0,0 +1,15 @@
+package com.example.hexagonalapp.application.port.in;
+
+import com.example.hexagonalapp.application.dto.CreateUserCommand;
+import com.example.hexagonalapp.application.dto.UserCreationResult;
+
+import java.util.List;
+
+/**
+ * Input port interface for the Create Users Batch use case in the Application layer.
+ * This interface defines the contract for creating many users in one call, returning
+ * one result per command in the same order as the input.
+ */
+public interface CreateUsersBatchUseCase {
+    List<UserCreationResult> createUsers(List<CreateUserCommand> commands);
+}
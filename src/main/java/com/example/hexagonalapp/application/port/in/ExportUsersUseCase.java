@@ -0,0 +1,14 @@
+package com.example.hexagonalapp.application.port.in;
+
+import com.example.hexagonalapp.application.dto.UserSummary;
+
+import java.util.function.Consumer;
+
+/**
+ * Input port interface for the Export Users use case in the Application layer.
+ * Pushes every stored user, in ID order, to the given sink while reading them, so the
+ * caller can write them out without holding the whole table in memory.
+ */
+public interface ExportUsersUseCase {
+    void exportUsers(Consumer<UserSummary> sink);
+}
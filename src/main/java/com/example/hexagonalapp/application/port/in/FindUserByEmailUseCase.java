@@ -0,0 +1,11 @@
+package com.example.hexagonalapp.application.port.in;
+
+import com.example.hexagonalapp.domain.model.entity.User;
+
+/**
+ * Input port interface for the Find User By Email use case in the Application layer.
+ * The email is normalized like at creation time, so lookups are case-insensitive.
+ */
+public interface FindUserByEmailUseCase {
+    User findUserByEmail(String email);
+}
@@ -0,0 +1,19 @@
+package com.example.hexagonalapp.application.port.in;
+
+import com.example.hexagonalapp.application.dto.UserLookupResult;
+
+import java.util.Collection;
+
+/**
+ * Input port interface for the Get Users use case in the Application layer.
+ * Looks up many users in one call instead of one request per ID; unknown IDs are reported,
+ * not thrown.
+ */
+public interface GetUsersUseCase {
+    int MAX_IDS = 1000;
+
+    /**
+     * @param ids IDs to look up, at most {@link #MAX_IDS} distinct ones; duplicates are ignored
+     */
+    UserLookupResult getUsers(Collection<Long> ids);
+}
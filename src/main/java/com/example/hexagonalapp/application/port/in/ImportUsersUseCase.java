@@ -0,0 +1,39 @@
+package com.example.hexagonalapp.application.port.in;
+
+import com.example.hexagonalapp.application.dto.CreateUserCommand;
+import com.example.hexagonalapp.application.dto.UserCreationResult;
+import com.example.hexagonalapp.application.dto.UserImportSummary;
+
+import java.util.Iterator;
+
+/**
+ * Input port interface for the Import Users use case in the Application layer.
+ * Commands are pulled lazily and created in chunks, each chunk committed on its own, so an
+ * import of any size holds at most one chunk in memory. Rows already committed stay committed
+ * if a later chunk fails.
+ */
+public interface ImportUsersUseCase {
+    int DEFAULT_CHUNK_SIZE = 1000;
+    int MAX_CHUNK_SIZE = 10_000;
+
+    /**
+     * @param commands  rows to import; an IllegalArgumentException thrown by {@code next()} rejects
+     *                  that row only, so sources can report unparseable rows without aborting
+     * @param chunkSize rows per committed chunk, between 1 and {@link #MAX_CHUNK_SIZE}
+     * @param listener  receives rejected rows and the running totals after every chunk
+     * @return the final totals
+     */
+    UserImportSummary importUsers(Iterator<CreateUserCommand> commands, int chunkSize, ImportListener listener);
+
+    /**
+     * Callback for the progress of an import; invoked on the importing thread.
+     */
+    interface ImportListener {
+        /**
+         * A rejected row; the index is the row position in the whole import, starting at 0.
+         */
+        void onRejected(UserCreationResult result);
+
+        void onChunkCommitted(UserImportSummary progress);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.hexagonalapp.application.port.in;
+
+import com.example.hexagonalapp.application.dto.UserPage;
+
+/**
+ * Input port interface for the List Users use case in the Application layer.
+ * Pages are ordered by ID and addressed by the last ID already seen (keyset pagination),
+ * so every page costs the same regardless of how deep the caller is.
+ */
+public interface ListUsersUseCase {
+    int DEFAULT_LIMIT = 50;
+    int MAX_LIMIT = 1000;
+
+    /**
+     * @param afterId last ID of the previous page, or null for the first page
+     * @param limit   page size, between 1 and {@link #MAX_LIMIT}
+     */
+    UserPage listUsers(Long afterId, int limit);
+}
@@ -0,0 +1,13 @@
+package com.example.hexagonalapp.application.port.in;
+
+import com.example.hexagonalapp.domain.model.entity.User;
+import reactor.core.publisher.Mono;
+
+/**
+ * Input port interface for the non-blocking Create User use case in the Application layer.
+ * Same contract as CreateUserUseCase, but the result (or the validation error) is emitted
+ * asynchronously so the caller never holds a thread while the database works.
+ */
+public interface ReactiveCreateUserUseCase {
+    Mono<User> createUser(String name, String email);
+}
@@ -0,0 +1,12 @@
+package com.example.hexagonalapp.application.port.in;
+
+import com.example.hexagonalapp.domain.model.entity.User;
+import reactor.core.publisher.Mono;
+
+/**
+ * Input port interface for the non-blocking Get User use case in the Application layer.
+ * Same contract as GetUserUseCase, but the user (or the not found error) is emitted asynchronously.
+ */
+public interface ReactiveGetUserUseCase {
+    Mono<User> getUser(Long userId);
+}
@@ -0,0 +1,25 @@
+package com.example.hexagonalapp.application.port.out;
+
+import com.example.hexagonalapp.domain.model.domainevent.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Port interface for publishing domain events in the Application layer.
+ * This output port lets use cases announce what happened without knowing who reacts to it.
+ * Implementations must not block the calling thread in {@link #publish(DomainEvent)}.
+ */
+public interface DomainEventPublisher {
+    void publish(DomainEvent event);
+
+    /**
+     * Publishes the events of a batch in one hand-off. Unlike {@link #publish(DomainEvent)},
+     * implementations may wait for room here instead of dropping, so bulk callers are paced
+     * by the subscribers.
+     */
+    default void publishAll(List<? extends DomainEvent> events) {
+        for (DomainEvent event : events) {
+            publish(event);
+        }
+    }
+}
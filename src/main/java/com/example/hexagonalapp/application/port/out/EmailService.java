@@ -1,5 +1,9 @@
 package com.example.hexagonalapp.application.port.out;
 
+import com.example.hexagonalapp.domain.model.entity.User;
+
+import java.util.List;
+
 /**
  * Port interface for email services in the Application layer.
  * This output port defines the contract for sending emails.
@@ -7,4 +11,15 @@ package com.example.hexagonalapp.application.port.out;
  */
 public interface EmailService {
     void sendWelcomeEmail(String email, String name);
-}
\ No newline at end of file
+
+    /**
+     * Sends the welcome emails of a batch of created users in one hand-off. Implementations
+     * that queue emails may wait for room here instead of dropping, so bulk callers are paced
+     * by the dispatcher.
+     */
+    default void sendWelcomeEmails(List<User> users) {
+        for (User user : users) {
+            sendWelcomeEmail(user.getEmail().getValue(), user.getName().getValue());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.hexagonalapp.application.port.out;
+
+/**
+ * Port interface for recording call latencies of other ports in the Application layer.
+ * Keeps the timing decorators free of any metrics library; the Infrastructure layer decides
+ * how measurements are aggregated and exported.
+ */
+public interface PortMetrics {
+    /**
+     * Returns the timer of one port operation. Called once per operation when a decorator is built,
+     * so implementations may register meters here and keep {@link OperationTimer} calls cheap.
+     */
+    OperationTimer timer(String port, String operation);
+
+    interface OperationTimer {
+        void recordSuccess(long elapsedNanos);
+
+        void recordFailure(long elapsedNanos, Throwable failure);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.hexagonalapp.application.port.out;
+
+import com.example.hexagonalapp.domain.model.entity.User;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking port interface for User persistence in the Application layer.
+ * Mirrors the subset of UserRepository needed by the reactive use cases; implementations
+ * must not block the subscribing thread.
+ */
+public interface ReactiveUserRepository {
+    /**
+     * Like {@link UserRepository#save(User)}, the Mono fails with EmailAlreadyExistsException
+     * if another user already has the email.
+     */
+    Mono<User> save(User user);
+
+    Mono<User> findById(Long id);
+
+    Mono<Boolean> existsByEmail(String email);
+}
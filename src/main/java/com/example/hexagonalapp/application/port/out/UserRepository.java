@@ -1,8 +1,14 @@
 package com.example.hexagonalapp.application.port.out;
 
+import com.example.hexagonalapp.application.dto.UserSummary;
 import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Port interface for User persistence in the Application layer.
@@ -10,7 +16,55 @@ import java.util.Optional;
  * It allows the application layer to remain independent of specific persistence technologies.
  */
 public interface UserRepository {
+    /**
+     * Inserts or updates the user; the unique email index is the uniqueness check.
+     * @throws com.example.hexagonalapp.domain.model.domainexception.EmailAlreadyExistsException
+     *         if another user already has the email
+     */
     User save(User user);
+
+    /**
+     * Saves all users in a single unit of work, returning them in input order with their IDs assigned.
+     * If any email is taken, nothing is saved and EmailAlreadyExistsException is thrown.
+     */
+    List<User> saveAll(List<User> users);
+
     Optional<User> findById(Long id);
+
+    /**
+     * Returns the stored users among the given IDs, in no particular order; unknown IDs are skipped.
+     */
+    List<User> findAllById(Collection<Long> ids);
+
+    /**
+     * Returns the user with the given email; stored emails are normalized, so this is an exact
+     * match on the value of the EmailAddress.
+     */
+    Optional<User> findByEmail(EmailAddress email);
+
+    /**
+     * @param email a normalized email, i.e. the value of an {@link EmailAddress}
+     */
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Returns the subset of the given (normalized) emails that already belong to a stored user.
+     */
+    Set<String> existsByEmailIn(Collection<String> emails);
+
+    /**
+     * Streams every stored email to the given consumer without loading them all at once.
+     */
+    void forEachEmail(Consumer<String> action);
+
+    /**
+     * Returns up to {@code limit} users with an ID greater than {@code afterId}, in ID order,
+     * projected without loading full entities.
+     */
+    List<UserSummary> findSummariesAfter(long afterId, int limit);
+
+    /**
+     * Streams every stored user, in ID order, to the given consumer without loading them all at once.
+     */
+    void forEachSummary(Consumer<UserSummary> action);
+}
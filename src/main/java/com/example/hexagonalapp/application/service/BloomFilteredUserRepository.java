@@ -0,0 +1,147 @@
+package com.example.hexagonalapp.application.service;
+
+import com.example.hexagonalapp.application.port.out.UserRepository;
+import com.example.hexagonalapp.domain.model.entity.User;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorator of the UserRepository output port that pre-checks email uniqueness against an
+ * in-memory Bloom filter in the Application layer.
+ * Emails the filter reports as absent are answered without a database round trip; only
+ * "maybe present" emails reach the wrapped port. Only the uniqueness pre-checks
+ * ({@code existsByEmail}, {@code existsByEmailIn}) are filtered; {@code findByEmail} always
+ * asks the wrapped port. The filter is built from all stored emails by {@link #rebuild()}
+ * and updated after every successful save.
+ * <p>
+ * Each application instance builds its own filter and only adds the emails it saves itself.
+ * Users inserted by other instances, the reactive path or bulk imports elsewhere are reported
+ * as absent by the pre-checks until this instance rebuilds. That is harmless: a wrong "absent"
+ * only lets a create through to the unique email index, which rejects the duplicate.
+ */
+public class BloomFilteredUserRepository extends DelegatingUserRepository {
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private volatile EmailBloomFilter filter;
+    private volatile EmailBloomFilter rebuilding;
+    private volatile long lastRebuildMillis;
+    private final LongAdder filteredLookups = new LongAdder();
+    private final LongAdder databaseLookups = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public BloomFilteredUserRepository(UserRepository delegate, long expectedInsertions, double falsePositiveRate) {
+        super(delegate);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new EmailBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * Builds a fresh filter from every stored email and swaps it in. Emails saved while the
+     * rebuild runs are added to both filters, so none is lost by the swap.
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        EmailBloomFilter fresh = new EmailBloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = fresh;
+        try {
+            delegate.forEachEmail(fresh::put);
+            filter = fresh;
+        } finally {
+            rebuilding = null;
+            lastRebuildMillis = (System.nanoTime() - start) / 1_000_000;
+        }
+    }
+
+    @Override
+    public User save(User user) {
+        User savedUser = delegate.save(user);
+        remember(savedUser);
+        return savedUser;
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        List<User> savedUsers = delegate.saveAll(users);
+        for (User savedUser : savedUsers) {
+            remember(savedUser);
+        }
+        return savedUsers;
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        if (!filter.mightContain(email)) {
+            filteredLookups.increment();
+            return false;
+        }
+        databaseLookups.increment();
+        boolean exists = delegate.existsByEmail(email);
+        if (!exists) {
+            falsePositives.increment();
+        }
+        return exists;
+    }
+
+    @Override
+    public Set<String> existsByEmailIn(Collection<String> emails) {
+        List<String> candidates = new ArrayList<>();
+        EmailBloomFilter current = filter;
+        for (String email : emails) {
+            if (current.mightContain(email)) {
+                candidates.add(email);
+            }
+        }
+        filteredLookups.add(emails.size() - candidates.size());
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        databaseLookups.add(candidates.size());
+        Set<String> existing = delegate.existsByEmailIn(candidates);
+        falsePositives.add(candidates.size() - existing.size());
+        return existing;
+    }
+
+    public long filterSize() {
+        return filter.size();
+    }
+
+    public double expectedFalsePositiveRate() {
+        return filter.expectedFalsePositiveRate();
+    }
+
+    /**
+     * Share of "maybe present" answers that the database then reported as absent.
+     */
+    public double observedFalsePositiveRate() {
+        long lookups = databaseLookups.sum();
+        return lookups == 0 ? 0.0 : (double) falsePositives.sum() / lookups;
+    }
+
+    public long filteredLookupCount() {
+        return filteredLookups.sum();
+    }
+
+    public long databaseLookupCount() {
+        return databaseLookups.sum();
+    }
+
+    public long lastRebuildMillis() {
+        return lastRebuildMillis;
+    }
+
+    private void remember(User savedUser) {
+        String email = savedUser.getEmail().getValue();
+        // Read the rebuild target before the live filter: if no rebuild is seen, either the next
+        // rebuild will stream this committed row or the live filter is already the rebuilt one
+        EmailBloomFilter pending = rebuilding;
+        if (pending != null) {
+            pending.put(email);
+        }
+        filter.put(email);
+    }
+}
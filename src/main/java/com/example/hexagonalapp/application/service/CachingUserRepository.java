@@ -0,0 +1,291 @@
+package com.example.hexagonalapp.application.service;
+
+import com.example.hexagonalapp.application.port.out.UserRepository;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Read-through caching decorator of the UserRepository output port in the Application layer.
+ * Keeps at most {@code maxSize} users by ID with approximate LRU eviction and a time-to-live per entry.
+ * Saved users are written through to the cache, so reads after a write never see stale data.
+ * Only found users are cached; misses always reach the wrapped port.
+ * <p>
+ * Hits take no lock: entries live in a ConcurrentHashMap and a hit only stamps the entry's access
+ * time. When an insert goes over {@code maxSize}, the least recently used of the next
+ * {@value #EVICTION_SAMPLE_SIZE} entries under a sweeping iterator is evicted, so every entry is
+ * sampled in turn. Concurrent inserts may exceed {@code maxSize} briefly until the next eviction.
+ * <p>
+ * Lookups by email share the same entries through a secondary email-to-ID index, which is
+ * updated whenever an entry is added, replaced, evicted or expires. An email lookup checks the
+ * cached user's email, so an index entry left behind by a concurrent update only causes a miss.
+ */
+public class CachingUserRepository extends DelegatingUserRepository {
+    static final int EVICTION_SAMPLE_SIZE = 8;
+    private static final String FIND_BY_ID = "findById";
+    private static final String FIND_BY_EMAIL = "findByEmail";
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<Long, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> idsByEmail = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    // Guarded by evictionLock
+    private Iterator<Map.Entry<Long, CacheEntry>> evictionHand;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public CachingUserRepository(UserRepository delegate, int maxSize, Duration ttl) {
+        this(delegate, maxSize, ttl, System::nanoTime);
+    }
+
+    public CachingUserRepository(UserRepository delegate, int maxSize, Duration ttl, LongSupplier nanoClock) {
+        super(delegate);
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public User save(User user) {
+        User savedUser = delegate.save(user);
+        put(savedUser, true);
+        return savedUser;
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        List<User> savedUsers = delegate.saveAll(users);
+        for (User savedUser : savedUsers) {
+            put(savedUser, true);
+        }
+        return savedUsers;
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        UserStageEvent stage = UserStageEvent.start(FIND_BY_ID, "cacheLookup");
+        User cached = lookup(id);
+        stage.finish(cached != null ? "hit" : "miss");
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        stage = UserStageEvent.start(FIND_BY_ID, "databaseLookup");
+        Optional<User> loaded = delegate.findById(id);
+        stage.finish(loaded.isPresent() ? "found" : "notFound");
+        // A concurrent save may have cached a newer copy meanwhile; never overwrite it with this read
+        loaded.ifPresent(user -> put(user, false));
+        return loaded;
+    }
+
+    @Override
+    public Optional<User> findByEmail(EmailAddress email) {
+        UserStageEvent stage = UserStageEvent.start(FIND_BY_EMAIL, "cacheLookup");
+        User cached = lookup(email);
+        stage.finish(cached != null ? "hit" : "miss");
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        stage = UserStageEvent.start(FIND_BY_EMAIL, "databaseLookup");
+        Optional<User> loaded = delegate.findByEmail(email);
+        stage.finish(loaded.isPresent() ? "found" : "notFound");
+        loaded.ifPresent(user -> put(user, false));
+        return loaded;
+    }
+
+    /**
+     * Serves cached users directly and loads only the misses, in one call to the wrapped port.
+     */
+    @Override
+    public List<User> findAllById(Collection<Long> ids) {
+        List<User> found = new ArrayList<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            User cached = lookup(id);
+            if (cached != null) {
+                found.add(cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        hits.add(found.size());
+        misses.add(missing.size());
+        if (!missing.isEmpty()) {
+            for (User user : delegate.findAllById(missing)) {
+                put(user, false);
+                found.add(user);
+            }
+        }
+        return found;
+    }
+
+    public void invalidate(Long id) {
+        CacheEntry removed = entries.remove(id);
+        if (removed != null) {
+            unindex(id, removed);
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long putCount() {
+        return puts.sum();
+    }
+
+    /**
+     * Entries dropped to stay within {@code maxSize}; expired entries are counted by {@link #expirationCount()}.
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public long expirationCount() {
+        return expirations.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private User lookup(Long id) {
+        CacheEntry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        long now = nanoClock.getAsLong();
+        if (now - entry.expiresAt >= 0) {
+            if (entries.remove(id, entry)) {
+                unindex(id, entry);
+                expirations.increment();
+            }
+            return null;
+        }
+        entry.lastAccess = now;
+        return copy(entry.user);
+    }
+
+    private User lookup(EmailAddress email) {
+        Long id = idsByEmail.get(email.getValue());
+        if (id == null) {
+            return null;
+        }
+        User user = lookup(id);
+        if (user == null) {
+            idsByEmail.remove(email.getValue(), id);
+            return null;
+        }
+        return user.getEmail().equals(email) ? user : null;
+    }
+
+    private void put(User user, boolean overwrite) {
+        if (user.getId() == null) {
+            return;
+        }
+        Long id = user.getId().getValue();
+        long now = nanoClock.getAsLong();
+        CacheEntry entry = new CacheEntry(copy(user), now + ttlNanos, now);
+        CacheEntry previous = overwrite ? entries.put(id, entry) : entries.putIfAbsent(id, entry);
+        if (previous != null && !overwrite) {
+            return;
+        }
+        puts.increment();
+        if (previous != null) {
+            // The email may have changed; the old one must no longer resolve to this user
+            unindex(id, previous);
+        }
+        idsByEmail.put(entry.user.getEmail().getValue(), id);
+        if (previous == null) {
+            evictIfOverCapacity();
+        }
+    }
+
+    private void evictIfOverCapacity() {
+        // One thread evicts at a time; it keeps going until the cache is back within maxSize
+        if (entries.size() <= maxSize || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            while (entries.size() > maxSize) {
+                Map.Entry<Long, CacheEntry> victim = sampleLeastRecentlyUsed();
+                if (victim == null) {
+                    return;
+                }
+                if (entries.remove(victim.getKey(), victim.getValue())) {
+                    unindex(victim.getKey(), victim.getValue());
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private Map.Entry<Long, CacheEntry> sampleLeastRecentlyUsed() {
+        int sampleSize = Math.min(EVICTION_SAMPLE_SIZE, entries.size());
+        Map.Entry<Long, CacheEntry> oldest = null;
+        for (int i = 0; i < sampleSize; i++) {
+            if (evictionHand == null || !evictionHand.hasNext()) {
+                evictionHand = entries.entrySet().iterator();
+                if (!evictionHand.hasNext()) {
+                    break;
+                }
+            }
+            Map.Entry<Long, CacheEntry> candidate = evictionHand.next();
+            if (oldest == null || candidate.getValue().lastAccess - oldest.getValue().lastAccess < 0) {
+                oldest = candidate;
+            }
+        }
+        return oldest;
+    }
+
+    private void unindex(Long id, CacheEntry entry) {
+        idsByEmail.remove(entry.user.getEmail().getValue(), id);
+    }
+
+    // User is mutable, so callers never share the cached instance
+    private static User copy(User user) {
+        User copy = new User(user.getName(), user.getEmail());
+        copy.setId(user.getId());
+        return copy;
+    }
+
+    private static final class CacheEntry {
+        private final User user;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        private CacheEntry(User user, long expiresAt, long lastAccess) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.hexagonalapp.application.service;
+
+import com.example.hexagonalapp.application.port.out.UserRepository;
+import com.example.hexagonalapp.domain.model.entity.User;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request-coalescing decorator of the UserRepository output port in the Application layer.
+ * Concurrent {@code findById} calls for the same ID share one in-flight lookup (single-flight):
+ * the first caller queries the wrapped port, later callers wait for its result.
+ * <p>
+ * With a positive batch window, lookups for different IDs are also collected into one
+ * {@code findAllById} call: the first lookup of a batch waits up to the window, or until
+ * {@code maxBatchSize} IDs have joined, and then queries for all of them on its own thread.
+ * <p>
+ * Nothing is cached: a lookup that starts after a query completed issues a new one.
+ */
+public class CoalescingUserRepository extends DelegatingUserRepository {
+    private final long batchWindowNanos;
+    private final int maxBatchSize;
+    private final Map<Long, CompletableFuture<Optional<User>>> inFlight = new ConcurrentHashMap<>();
+    private final Object batchLock = new Object();
+    private Batch pendingBatch;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder coalescedLookups = new LongAdder();
+    private final LongAdder queries = new LongAdder();
+
+    public CoalescingUserRepository(UserRepository delegate) {
+        this(delegate, Duration.ZERO, 1);
+    }
+
+    public CoalescingUserRepository(UserRepository delegate, Duration batchWindow, int maxBatchSize) {
+        super(delegate);
+        if (batchWindow.isNegative() || maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch window must not be negative and batch size must be positive");
+        }
+        this.batchWindowNanos = batchWindow.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        lookups.increment();
+        CompletableFuture<Optional<User>> lookup = new CompletableFuture<>();
+        CompletableFuture<Optional<User>> existing = inFlight.putIfAbsent(id, lookup);
+        if (existing != null) {
+            coalescedLookups.increment();
+            // User is mutable, so every caller gets its own instance
+            return await(existing).map(CoalescingUserRepository::copy);
+        }
+        try {
+            Optional<User> result = isBatching() ? loadBatched(id) : loadSingle(id);
+            lookup.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            lookup.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, lookup);
+        }
+    }
+
+    public boolean isBatching() {
+        return batchWindowNanos > 0 && maxBatchSize > 1;
+    }
+
+    public long lookupCount() {
+        return lookups.sum();
+    }
+
+    public long coalescedLookupCount() {
+        return coalescedLookups.sum();
+    }
+
+    public long queryCount() {
+        return queries.sum();
+    }
+
+    /**
+     * Fraction of findById lookups that did not need a query of their own, between 0 and 1.
+     */
+    public double coalescingRatio() {
+        long lookupCount = lookups.sum();
+        return lookupCount == 0 ? 0.0 : 1.0 - (double) Math.min(queries.sum(), lookupCount) / lookupCount;
+    }
+
+    private Optional<User> loadSingle(Long id) {
+        queries.increment();
+        return delegate.findById(id);
+    }
+
+    private Optional<User> loadBatched(Long id) {
+        Batch batch;
+        boolean leader;
+        CompletableFuture<Optional<User>> result;
+        synchronized (batchLock) {
+            leader = pendingBatch == null;
+            if (leader) {
+                pendingBatch = new Batch();
+            }
+            batch = pendingBatch;
+            result = batch.add(id);
+            if (batch.size() >= maxBatchSize) {
+                // Full: the next lookup starts a new batch and the leader stops waiting
+                pendingBatch = null;
+                batch.full.countDown();
+            }
+        }
+        if (leader) {
+            awaitWindow(batch);
+            synchronized (batchLock) {
+                if (pendingBatch == batch) {
+                    pendingBatch = null;
+                }
+            }
+            batch.execute();
+        }
+        return await(result);
+    }
+
+    private void awaitWindow(Batch batch) {
+        try {
+            batch.full.await(batchWindowNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            // Query right away; the followers are still waiting for this batch
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Optional<User> await(CompletableFuture<Optional<User>> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static User copy(User user) {
+        User copy = new User(user.getName(), user.getEmail());
+        copy.setId(user.getId());
+        return copy;
+    }
+
+    /**
+     * IDs collected within one window; only mutated while holding {@code batchLock} until executed.
+     */
+    private final class Batch {
+        private final Map<Long, CompletableFuture<Optional<User>>> futures = new HashMap<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+
+        CompletableFuture<Optional<User>> add(Long id) {
+            return futures.computeIfAbsent(id, key -> new CompletableFuture<>());
+        }
+
+        int size() {
+            return futures.size();
+        }
+
+        void execute() {
+            queries.increment();
+            try {
+                List<User> users = delegate.findAllById(futures.keySet());
+                Map<Long, User> usersById = new HashMap<>();
+                for (User user : users) {
+                    usersById.put(user.getId().getValue(), user);
+                }
+                for (Map.Entry<Long, CompletableFuture<Optional<User>>> lookup : futures.entrySet()) {
+                    lookup.getValue().complete(Optional.ofNullable(usersById.get(lookup.getKey())));
+                }
+            } catch (RuntimeException e) {
+                for (CompletableFuture<Optional<User>> lookup : futures.values()) {
+                    lookup.completeExceptionally(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.hexagonalapp.application.service;
+
+import com.example.hexagonalapp.application.dto.UserSummary;
+import com.example.hexagonalapp.application.port.out.UserRepository;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Base class for decorators of the UserRepository output port in the Application layer.
+ * Forwards every call to the wrapped port so subclasses only override what they change.
+ */
+public abstract class DelegatingUserRepository implements UserRepository {
+    protected final UserRepository delegate;
+
+    protected DelegatingUserRepository(UserRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public User save(User user) {
+        return delegate.save(user);
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        return delegate.saveAll(users);
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<User> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Optional<User> findByEmail(EmailAddress email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Set<String> existsByEmailIn(Collection<String> emails) {
+        return delegate.existsByEmailIn(emails);
+    }
+
+    @Override
+    public void forEachEmail(Consumer<String> action) {
+        delegate.forEachEmail(action);
+    }
+
+    @Override
+    public List<UserSummary> findSummariesAfter(long afterId, int limit) {
+        return delegate.findSummariesAfter(afterId, limit);
+    }
+
+    @Override
+    public void forEachSummary(Consumer<UserSummary> action) {
+        delegate.forEachSummary(action);
+    }
+}
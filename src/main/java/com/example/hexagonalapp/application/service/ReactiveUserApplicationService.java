@@ -0,0 +1,82 @@
+package com.example.hexagonalapp.application.service;
+
+import com.example.hexagonalapp.application.port.in.ReactiveCreateUserUseCase;
+import com.example.hexagonalapp.application.port.in.ReactiveGetUserUseCase;
+import com.example.hexagonalapp.application.port.out.DomainEventPublisher;
+import com.example.hexagonalapp.application.port.out.EmailService;
+import com.example.hexagonalapp.application.port.out.ReactiveUserRepository;
+import com.example.hexagonalapp.domain.model.domainevent.UserCreatedEvent;
+import com.example.hexagonalapp.domain.model.domainexception.UserNotFoundException;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.Name;
+import com.example.hexagonalapp.domain.service.UserDomainService;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking counterpart of UserApplicationService in the Application layer.
+ * Applies the same rules in the same order, but composes the persistence calls instead of
+ * waiting on them. The welcome email and the domain event are handed off on a separate
+ * scheduler (bounded elastic by default), because the email adapter may block on a full
+ * queue or call the provider on the calling thread, which must never be an event loop.
+ */
+public class ReactiveUserApplicationService implements ReactiveCreateUserUseCase, ReactiveGetUserUseCase {
+    private final ReactiveUserRepository userRepository;
+    private final EmailService emailService;
+    private final UserDomainService userDomainService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final Scheduler sideEffectScheduler;
+
+    public ReactiveUserApplicationService(ReactiveUserRepository userRepository, EmailService emailService,
+                                          UserDomainService userDomainService, DomainEventPublisher domainEventPublisher) {
+        this(userRepository, emailService, userDomainService, domainEventPublisher, Schedulers.boundedElastic());
+    }
+
+    public ReactiveUserApplicationService(ReactiveUserRepository userRepository, EmailService emailService,
+                                          UserDomainService userDomainService, DomainEventPublisher domainEventPublisher,
+                                          Scheduler sideEffectScheduler) {
+        this.userRepository = userRepository;
+        this.emailService = emailService;
+        this.userDomainService = userDomainService;
+        this.domainEventPublisher = domainEventPublisher;
+        this.sideEffectScheduler = sideEffectScheduler;
+    }
+
+    @Override
+    public Mono<User> createUser(String nameIn, String emailIn) {
+        return Mono.fromCallable(() -> {
+                    // Create domain object
+                    EmailAddress email = new EmailAddress(emailIn);
+                    Name name = new Name(nameIn);
+                    return new User(name, email);
+                })
+                .flatMap(user -> {
+                    // Validate user using domain service
+                    if (!userDomainService.isUserValidForOperations(user)) {
+                        return Mono.error(new IllegalArgumentException("User does not meet domain validation rules"));
+                    }
+
+                    // Save user: the unique email index rejects duplicates with EmailAlreadyExistsException
+                    return userRepository.save(user);
+                })
+                // The email hand-off can wait for queue room or call the provider itself, so it
+                // runs off the event loop that completed the save
+                .flatMap(savedUser -> Mono.fromRunnable(() -> {
+                            // Send welcome email (fire and forget)
+                            emailService.sendWelcomeEmail(savedUser.getEmail().getValue(), savedUser.getName().getValue());
+
+                            // Publish domain event
+                            domainEventPublisher.publish(new UserCreatedEvent(savedUser));
+                        })
+                        .subscribeOn(sideEffectScheduler)
+                        .thenReturn(savedUser));
+    }
+
+    @Override
+    public Mono<User> getUser(Long userId) {
+        return userRepository.findById(userId)
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException(userId)));
+    }
+}
@@ -0,0 +1,358 @@
+package com.example.hexagonalapp.application.service;
+
+import com.example.hexagonalapp.application.dto.UserCreationResult;
+import com.example.hexagonalapp.application.dto.UserImportSummary;
+import com.example.hexagonalapp.application.dto.UserLookupResult;
+import com.example.hexagonalapp.application.dto.UserPage;
+import com.example.hexagonalapp.application.dto.UserSummary;
+import com.example.hexagonalapp.application.port.in.CreateUserUseCase;
+import com.example.hexagonalapp.application.port.in.CreateUsersBatchUseCase;
+import com.example.hexagonalapp.application.port.in.ExportUsersUseCase;
+import com.example.hexagonalapp.application.port.in.FindUserByEmailUseCase;
+import com.example.hexagonalapp.application.port.in.GetUserUseCase;
+import com.example.hexagonalapp.application.port.in.GetUsersUseCase;
+import com.example.hexagonalapp.application.port.in.ImportUsersUseCase;
+import com.example.hexagonalapp.application.port.in.ListUsersUseCase;
+import com.example.hexagonalapp.application.port.out.EmailService;
+import com.example.hexagonalapp.application.port.out.PortMetrics;
+import com.example.hexagonalapp.application.port.out.UserRepository;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Timing decorators for input and output ports in the Application layer.
+ * Each decorator is a plain forwarding class written per port, like {@link DelegatingUserRepository},
+ * so a timed call costs two {@code System.nanoTime()} reads and a direct call on the target.
+ * Calls are recorded under the port's simple name and the method name; exceptions are
+ * recorded and rethrown unchanged. A method added to a port must be added here to be timed.
+ */
+public final class TimedPorts {
+    private TimedPorts() {
+    }
+
+    public static UserRepository userRepository(UserRepository target, PortMetrics metrics) {
+        return new TimedUserRepository(target, metrics);
+    }
+
+    public static EmailService emailService(EmailService target, PortMetrics metrics) {
+        return new TimedEmailService(target, metrics);
+    }
+
+    public static CreateUserUseCase createUser(CreateUserUseCase target, PortMetrics metrics) {
+        PortMetrics.OperationTimer timer = metrics.timer(CreateUserUseCase.class.getSimpleName(), "createUser");
+        return (name, email) -> {
+            long start = System.nanoTime();
+            try {
+                User result = target.createUser(name, email);
+                timer.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable failure) {
+                timer.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        };
+    }
+
+    public static CreateUsersBatchUseCase createUsers(CreateUsersBatchUseCase target, PortMetrics metrics) {
+        PortMetrics.OperationTimer timer = metrics.timer(CreateUsersBatchUseCase.class.getSimpleName(), "createUsers");
+        return commands -> {
+            long start = System.nanoTime();
+            try {
+                List<UserCreationResult> result = target.createUsers(commands);
+                timer.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable failure) {
+                timer.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        };
+    }
+
+    public static GetUserUseCase getUser(GetUserUseCase target, PortMetrics metrics) {
+        PortMetrics.OperationTimer timer = metrics.timer(GetUserUseCase.class.getSimpleName(), "getUser");
+        return userId -> {
+            long start = System.nanoTime();
+            try {
+                User result = target.getUser(userId);
+                timer.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable failure) {
+                timer.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        };
+    }
+
+    public static GetUsersUseCase getUsers(GetUsersUseCase target, PortMetrics metrics) {
+        PortMetrics.OperationTimer timer = metrics.timer(GetUsersUseCase.class.getSimpleName(), "getUsers");
+        return ids -> {
+            long start = System.nanoTime();
+            try {
+                UserLookupResult result = target.getUsers(ids);
+                timer.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable failure) {
+                timer.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        };
+    }
+
+    public static FindUserByEmailUseCase findUserByEmail(FindUserByEmailUseCase target, PortMetrics metrics) {
+        PortMetrics.OperationTimer timer = metrics.timer(FindUserByEmailUseCase.class.getSimpleName(), "findUserByEmail");
+        return email -> {
+            long start = System.nanoTime();
+            try {
+                User result = target.findUserByEmail(email);
+                timer.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable failure) {
+                timer.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        };
+    }
+
+    public static ListUsersUseCase listUsers(ListUsersUseCase target, PortMetrics metrics) {
+        PortMetrics.OperationTimer timer = metrics.timer(ListUsersUseCase.class.getSimpleName(), "listUsers");
+        return (afterId, limit) -> {
+            long start = System.nanoTime();
+            try {
+                UserPage result = target.listUsers(afterId, limit);
+                timer.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable failure) {
+                timer.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        };
+    }
+
+    public static ExportUsersUseCase exportUsers(ExportUsersUseCase target, PortMetrics metrics) {
+        PortMetrics.OperationTimer timer = metrics.timer(ExportUsersUseCase.class.getSimpleName(), "exportUsers");
+        return sink -> {
+            long start = System.nanoTime();
+            try {
+                target.exportUsers(sink);
+                timer.recordSuccess(System.nanoTime() - start);
+            } catch (Throwable failure) {
+                timer.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        };
+    }
+
+    public static ImportUsersUseCase importUsers(ImportUsersUseCase target, PortMetrics metrics) {
+        PortMetrics.OperationTimer timer = metrics.timer(ImportUsersUseCase.class.getSimpleName(), "importUsers");
+        return (commands, chunkSize, listener) -> {
+            long start = System.nanoTime();
+            try {
+                UserImportSummary result = target.importUsers(commands, chunkSize, listener);
+                timer.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (Throwable failure) {
+                timer.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        };
+    }
+
+    private static final class TimedUserRepository extends DelegatingUserRepository {
+        private final PortMetrics.OperationTimer save;
+        private final PortMetrics.OperationTimer saveAll;
+        private final PortMetrics.OperationTimer findById;
+        private final PortMetrics.OperationTimer findAllById;
+        private final PortMetrics.OperationTimer findByEmail;
+        private final PortMetrics.OperationTimer existsByEmail;
+        private final PortMetrics.OperationTimer existsByEmailIn;
+        private final PortMetrics.OperationTimer forEachEmail;
+        private final PortMetrics.OperationTimer findSummariesAfter;
+        private final PortMetrics.OperationTimer forEachSummary;
+
+        private TimedUserRepository(UserRepository delegate, PortMetrics metrics) {
+            super(delegate);
+            String port = UserRepository.class.getSimpleName();
+            this.save = metrics.timer(port, "save");
+            this.saveAll = metrics.timer(port, "saveAll");
+            this.findById = metrics.timer(port, "findById");
+            this.findAllById = metrics.timer(port, "findAllById");
+            this.findByEmail = metrics.timer(port, "findByEmail");
+            this.existsByEmail = metrics.timer(port, "existsByEmail");
+            this.existsByEmailIn = metrics.timer(port, "existsByEmailIn");
+            this.forEachEmail = metrics.timer(port, "forEachEmail");
+            this.findSummariesAfter = metrics.timer(port, "findSummariesAfter");
+            this.forEachSummary = metrics.timer(port, "forEachSummary");
+        }
+
+        @Override
+        public User save(User user) {
+            long start = System.nanoTime();
+            try {
+            User result = delegate.save(user);
+            save.recordSuccess(System.nanoTime() - start);
+            return result;
+            } catch (Throwable failure) {
+                save.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        }
+
+        @Override
+        public List<User> saveAll(List<User> users) {
+            long start = System.nanoTime();
+            try {
+            List<User> result = delegate.saveAll(users);
+            saveAll.recordSuccess(System.nanoTime() - start);
+            return result;
+            } catch (Throwable failure) {
+                saveAll.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        }
+
+        @Override
+        public Optional<User> findById(Long id) {
+            long start = System.nanoTime();
+            try {
+            Optional<User> result = delegate.findById(id);
+            findById.recordSuccess(System.nanoTime() - start);
+            return result;
+            } catch (Throwable failure) {
+                findById.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        }
+
+        @Override
+        public List<User> findAllById(Collection<Long> ids) {
+            long start = System.nanoTime();
+            try {
+            List<User> result = delegate.findAllById(ids);
+            findAllById.recordSuccess(System.nanoTime() - start);
+            return result;
+            } catch (Throwable failure) {
+                findAllById.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        }
+
+        @Override
+        public Optional<User> findByEmail(EmailAddress email) {
+            long start = System.nanoTime();
+            try {
+            Optional<User> result = delegate.findByEmail(email);
+            findByEmail.recordSuccess(System.nanoTime() - start);
+            return result;
+            } catch (Throwable failure) {
+                findByEmail.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            long start = System.nanoTime();
+            try {
+            boolean result = delegate.existsByEmail(email);
+            existsByEmail.recordSuccess(System.nanoTime() - start);
+            return result;
+            } catch (Throwable failure) {
+                existsByEmail.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        }
+
+        @Override
+        public Set<String> existsByEmailIn(Collection<String> emails) {
+            long start = System.nanoTime();
+            try {
+            Set<String> result = delegate.existsByEmailIn(emails);
+            existsByEmailIn.recordSuccess(System.nanoTime() - start);
+            return result;
+            } catch (Throwable failure) {
+                existsByEmailIn.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        }
+
+        @Override
+        public void forEachEmail(Consumer<String> action) {
+            long start = System.nanoTime();
+            try {
+            delegate.forEachEmail(action);
+            forEachEmail.recordSuccess(System.nanoTime() - start);
+            } catch (Throwable failure) {
+                forEachEmail.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        }
+
+        @Override
+        public List<UserSummary> findSummariesAfter(long afterId, int limit) {
+            long start = System.nanoTime();
+            try {
+            List<UserSummary> result = delegate.findSummariesAfter(afterId, limit);
+            findSummariesAfter.recordSuccess(System.nanoTime() - start);
+            return result;
+            } catch (Throwable failure) {
+                findSummariesAfter.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        }
+
+        @Override
+        public void forEachSummary(Consumer<UserSummary> action) {
+            long start = System.nanoTime();
+            try {
+            delegate.forEachSummary(action);
+            forEachSummary.recordSuccess(System.nanoTime() - start);
+            } catch (Throwable failure) {
+                forEachSummary.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        }
+    }
+
+    private static final class TimedEmailService implements EmailService {
+        private final EmailService delegate;
+        private final PortMetrics.OperationTimer sendWelcomeEmail;
+        private final PortMetrics.OperationTimer sendWelcomeEmails;
+
+        private TimedEmailService(EmailService delegate, PortMetrics metrics) {
+            this.delegate = delegate;
+            String port = EmailService.class.getSimpleName();
+            this.sendWelcomeEmail = metrics.timer(port, "sendWelcomeEmail");
+            this.sendWelcomeEmails = metrics.timer(port, "sendWelcomeEmails");
+        }
+
+        @Override
+        public void sendWelcomeEmail(String email, String name) {
+            long start = System.nanoTime();
+            try {
+            delegate.sendWelcomeEmail(email, name);
+            sendWelcomeEmail.recordSuccess(System.nanoTime() - start);
+            } catch (Throwable failure) {
+                sendWelcomeEmail.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        }
+
+        @Override
+        public void sendWelcomeEmails(List<User> users) {
+            long start = System.nanoTime();
+            try {
+            delegate.sendWelcomeEmails(users);
+            sendWelcomeEmails.recordSuccess(System.nanoTime() - start);
+            } catch (Throwable failure) {
+                sendWelcomeEmails.recordFailure(System.nanoTime() - start, failure);
+                throw failure;
+            }
+        }
+    }
+}
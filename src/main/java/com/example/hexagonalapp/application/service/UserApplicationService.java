@@ -1,62 +1,303 @@
 package com.example.hexagonalapp.application.service;
 
+import com.example.hexagonalapp.application.dto.CreateUserCommand;
+import com.example.hexagonalapp.application.dto.UserCreationResult;
+import com.example.hexagonalapp.application.dto.UserImportSummary;
+import com.example.hexagonalapp.application.dto.UserLookupResult;
+import com.example.hexagonalapp.application.dto.UserPage;
+import com.example.hexagonalapp.application.dto.UserSummary;
 import com.example.hexagonalapp.application.port.in.CreateUserUseCase;
+import com.example.hexagonalapp.application.port.in.CreateUsersBatchUseCase;
+import com.example.hexagonalapp.application.port.in.ExportUsersUseCase;
+import com.example.hexagonalapp.application.port.in.FindUserByEmailUseCase;
 import com.example.hexagonalapp.application.port.in.GetUserUseCase;
+import com.example.hexagonalapp.application.port.in.GetUsersUseCase;
+import com.example.hexagonalapp.application.port.in.ImportUsersUseCase;
+import com.example.hexagonalapp.application.port.in.ListUsersUseCase;
+import com.example.hexagonalapp.application.port.out.DomainEventPublisher;
 import com.example.hexagonalapp.application.port.out.EmailService;
 import com.example.hexagonalapp.application.port.out.UserRepository;
 import com.example.hexagonalapp.domain.model.domainevent.UserCreatedEvent;
+import com.example.hexagonalapp.domain.model.domainexception.EmailAlreadyExistsException;
+import com.example.hexagonalapp.domain.model.domainexception.UserNotFoundException;
 import com.example.hexagonalapp.domain.model.entity.User;
 import com.example.hexagonalapp.domain.service.UserDomainService;
 import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
 import com.example.hexagonalapp.domain.model.valueobject.Name;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
 /**
  * ApplicationService that orchestrates User-related use cases in the Application layer.
  * This service implements the input port interfaces, providing concrete implementations of use cases.
  * It coordinates between domain objects and output ports, ensuring use case orchestration.
  */
-public class UserApplicationService implements CreateUserUseCase, GetUserUseCase {
+public class UserApplicationService implements CreateUserUseCase, CreateUsersBatchUseCase, GetUserUseCase, GetUsersUseCase,
+        FindUserByEmailUseCase, ListUsersUseCase, ExportUsersUseCase, ImportUsersUseCase {
+    private static final String CREATE_USER = "createUser";
+    private static final String GET_USER = "getUser";
+    private static final String FIND_USER_BY_EMAIL = "findUserByEmail";
+
     private final UserRepository userRepository;
     private final EmailService emailService;
     private final UserDomainService userDomainService;
+    private final DomainEventPublisher domainEventPublisher;
 
-    public UserApplicationService(UserRepository userRepository, EmailService emailService, UserDomainService userDomainService) {
+    public UserApplicationService(UserRepository userRepository, EmailService emailService, UserDomainService userDomainService,
+                                  DomainEventPublisher domainEventPublisher) {
         this.userRepository = userRepository;
         this.emailService = emailService;
         this.userDomainService = userDomainService;
+        this.domainEventPublisher = domainEventPublisher;
     }
 
     public User createUser(String nameIn, String emailIn) {
-        // Validate email uniqueness
-        if (userRepository.existsByEmail(emailIn)) {
-            throw new IllegalArgumentException("Email already exists");
-        }
-
+        // Each stage is a UserStageEvent; a stage that throws is not recorded
         // Create domain object
+        UserStageEvent stage = UserStageEvent.start(CREATE_USER, "valueObjects");
         EmailAddress email = new EmailAddress(emailIn);
         Name name = new Name(nameIn);
         User user = new User(name, email);
+        stage.finish();
 
         // Validate user using domain service
+        stage = UserStageEvent.start(CREATE_USER, "domainValidation");
         if (!userDomainService.isUserValidForOperations(user)) {
             throw new IllegalArgumentException("User does not meet domain validation rules");
         }
+        stage.finish();
 
-        // Save user
+        // Save user: one round trip, the unique email index rejects duplicates with
+        // EmailAlreadyExistsException, also when concurrent creates race for the same email
+        stage = UserStageEvent.start(CREATE_USER, "save");
         User savedUser = userRepository.save(user);
+        stage.finish();
 
         // Send welcome email (fire and forget)
+        stage = UserStageEvent.start(CREATE_USER, "emailDispatch");
         emailService.sendWelcomeEmail(savedUser.getEmail().getValue(), savedUser.getName().getValue());
+        stage.finish();
 
-        // Domain event could be published here
-        UserCreatedEvent event = new UserCreatedEvent(savedUser);
-        // In a real app, publish to event bus
+        // Publish domain event (never blocks)
+        stage = UserStageEvent.start(CREATE_USER, "eventPublish");
+        domainEventPublisher.publish(new UserCreatedEvent(savedUser));
+        stage.finish();
 
         return savedUser;
     }
 
+    /**
+     * Creates all valid users of the batch with a single uniqueness query and a single batched save.
+     * Invalid items, duplicates within the batch and already existing emails are reported per item
+     * instead of failing the whole batch. Only an email taken by a concurrent create between the
+     * check and the save fails the batch, with EmailAlreadyExistsException and nothing saved.
+     */
+    public List<UserCreationResult> createUsers(List<CreateUserCommand> commands) {
+        UserCreationResult[] results = new UserCreationResult[commands.size()];
+        Map<String, Integer> indexByEmail = new HashMap<>();
+        List<User> candidates = new ArrayList<>();
+        List<Integer> candidateIndexes = new ArrayList<>();
+
+        // Build and validate domain objects, rejecting duplicates within the batch
+        for (int i = 0; i < commands.size(); i++) {
+            CreateUserCommand command = commands.get(i);
+            try {
+                EmailAddress email = new EmailAddress(command.getEmail());
+                Name name = new Name(command.getName());
+                User user = new User(name, email);
+                if (!userDomainService.isUserValidForOperations(user)) {
+                    results[i] = UserCreationResult.rejected(i, command.getEmail(), "User does not meet domain validation rules");
+                } else if (indexByEmail.putIfAbsent(email.getValue(), i) != null) {
+                    results[i] = UserCreationResult.rejected(i, command.getEmail(), "Duplicate email in batch");
+                } else {
+                    candidates.add(user);
+                    candidateIndexes.add(i);
+                }
+            } catch (IllegalArgumentException e) {
+                results[i] = UserCreationResult.rejected(i, command.getEmail(), e.getMessage());
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        // Validate email uniqueness for the whole batch in one query
+        Set<String> existingEmails = userRepository.existsByEmailIn(indexByEmail.keySet());
+        List<User> toSave = new ArrayList<>(candidates.size());
+        List<Integer> toSaveIndexes = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            User user = candidates.get(i);
+            int index = candidateIndexes.get(i);
+            if (existingEmails.contains(user.getEmail().getValue())) {
+                results[index] = UserCreationResult.rejected(index, commands.get(index).getEmail(), "Email already exists");
+            } else {
+                toSave.add(user);
+                toSaveIndexes.add(index);
+            }
+        }
+
+        // Save remaining users in one batch
+        List<User> savedUsers = toSave.isEmpty() ? List.of() : userRepository.saveAll(toSave);
+        List<UserCreatedEvent> events = new ArrayList<>(savedUsers.size());
+        for (int i = 0; i < savedUsers.size(); i++) {
+            User savedUser = savedUsers.get(i);
+            int index = toSaveIndexes.get(i);
+            results[index] = UserCreationResult.created(index, savedUser);
+            events.add(new UserCreatedEvent(savedUser));
+        }
+
+        // Hand emails and events off once per batch, so large batches are paced instead of dropped
+        if (!savedUsers.isEmpty()) {
+            emailService.sendWelcomeEmails(savedUsers);
+            domainEventPublisher.publishAll(events);
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Imports users chunk by chunk through {@link #createUsers(List)}, so each chunk costs one
+     * uniqueness query and one batched save. Emails committed by earlier chunks are found by the
+     * uniqueness query of later ones, which makes duplicates across chunks rejections as well.
+     * An email taken by a concurrent create fails only its row; the rest of the chunk is saved.
+     */
+    public UserImportSummary importUsers(Iterator<CreateUserCommand> commands, int chunkSize, ImportListener listener) {
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+        long processed = 0;
+        long created = 0;
+        long rejected = 0;
+        List<CreateUserCommand> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkRows = new ArrayList<>(chunkSize);
+        List<UserCreationResult> rejections = new ArrayList<>();
+
+        while (commands.hasNext()) {
+            int row = Math.toIntExact(processed + chunk.size() + rejections.size());
+            try {
+                chunk.add(commands.next());
+                chunkRows.add(row);
+            } catch (IllegalArgumentException e) {
+                rejections.add(UserCreationResult.rejected(row, null, e.getMessage()));
+            }
+            int rowsRead = chunk.size() + rejections.size();
+            if (rowsRead < chunkSize && commands.hasNext()) {
+                continue;
+            }
+
+            // Commit the chunk and report its rejections in row order
+            List<UserCreationResult> results = chunk.isEmpty() ? List.of() : createChunk(chunk);
+            for (UserCreationResult result : results) {
+                if (result.isCreated()) {
+                    created++;
+                } else {
+                    rejections.add(UserCreationResult.rejected(chunkRows.get(result.getIndex()), result.getEmail(),
+                            result.getError()));
+                }
+            }
+            rejections.sort(Comparator.comparingInt(UserCreationResult::getIndex));
+            for (UserCreationResult rejection : rejections) {
+                listener.onRejected(rejection);
+            }
+            processed += rowsRead;
+            rejected += rejections.size();
+            chunk.clear();
+            chunkRows.clear();
+            rejections.clear();
+            listener.onChunkCommitted(new UserImportSummary(processed, created, rejected));
+        }
+        return new UserImportSummary(processed, created, rejected);
+    }
+
+    // A concurrent create can take an email between the uniqueness query and the save, which
+    // fails the whole batch; the chunk is then created row by row so only that row is rejected
+    private List<UserCreationResult> createChunk(List<CreateUserCommand> chunk) {
+        try {
+            return createUsers(chunk);
+        } catch (EmailAlreadyExistsException e) {
+            List<UserCreationResult> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                CreateUserCommand command = chunk.get(i);
+                try {
+                    UserCreationResult result = createUsers(List.of(command)).get(0);
+                    results.add(result.isCreated() ? UserCreationResult.created(i, result.getUser())
+                            : UserCreationResult.rejected(i, result.getEmail(), result.getError()));
+                } catch (EmailAlreadyExistsException taken) {
+                    results.add(UserCreationResult.rejected(i, command.getEmail(), "Email already exists"));
+                }
+            }
+            return results;
+        }
+    }
+
     public User getUser(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        UserStageEvent stage = UserStageEvent.start(GET_USER, "findById");
+        Optional<User> user = userRepository.findById(userId);
+        stage.finish(user.isPresent() ? "found" : "notFound");
+        return user.orElseThrow(() -> new UserNotFoundException(userId));
+    }
+
+    public User findUserByEmail(String emailIn) {
+        EmailAddress email = new EmailAddress(emailIn);
+        UserStageEvent stage = UserStageEvent.start(FIND_USER_BY_EMAIL, "findByEmail");
+        Optional<User> user = userRepository.findByEmail(email);
+        stage.finish(user.isPresent() ? "found" : "notFound");
+        return user.orElseThrow(UserNotFoundException::new);
+    }
+
+    public UserLookupResult getUsers(Collection<Long> ids) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        if (distinctIds.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " IDs can be looked up at once");
+        }
+        if (distinctIds.isEmpty()) {
+            return new UserLookupResult(List.of(), List.of());
+        }
+        // One port call for all IDs; the result order is restored from the request
+        Map<Long, User> usersById = new HashMap<>();
+        for (User user : userRepository.findAllById(distinctIds)) {
+            usersById.put(user.getId().getValue(), user);
+        }
+        List<User> users = new ArrayList<>(usersById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            User user = usersById.get(id);
+            if (user != null) {
+                users.add(user);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new UserLookupResult(users, missingIds);
+    }
+
+    public UserPage listUsers(Long afterId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        // IDs are positive, so 0 starts at the beginning; one extra row tells whether a next page exists
+        List<UserSummary> rows = userRepository.findSummariesAfter(afterId == null ? 0L : afterId, limit + 1);
+        if (rows.size() <= limit) {
+            return new UserPage(rows, null);
+        }
+        List<UserSummary> items = rows.subList(0, limit);
+        return new UserPage(items, items.get(limit - 1).getId());
+    }
+
+    public void exportUsers(Consumer<UserSummary> sink) {
+        userRepository.forEachSummary(sink);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,56 @@
+package com.example.hexagonalapp.application.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for one stage of a user use case in the Application layer.
+ * Disabled by default, so ordinary recordings do not include it; enable
+ * {@value #NAME} in the recording settings (or through the {@code jfr} actuator endpoint)
+ * to get a per-request breakdown. While disabled, begin and commit cost next to nothing.
+ */
+@Name(UserStageEvent.NAME)
+@Label("User Use Case Stage")
+@Category({"Hexagonal App", "Use Cases"})
+@Description("Duration of one stage of a user use case")
+@Enabled(false)
+@StackTrace(false)
+public final class UserStageEvent extends Event {
+    public static final String NAME = "com.example.hexagonalapp.UserStage";
+
+    @Label("Operation")
+    private final String operation;
+
+    @Label("Stage")
+    private final String stage;
+
+    @Label("Detail")
+    private String detail;
+
+    private UserStageEvent(String operation, String stage) {
+        this.operation = operation;
+        this.stage = stage;
+    }
+
+    static UserStageEvent start(String operation, String stage) {
+        UserStageEvent event = new UserStageEvent(operation, stage);
+        event.begin();
+        return event;
+    }
+
+    void finish() {
+        commit();
+    }
+
+    void finish(String detail) {
+        if (shouldCommit()) {
+            this.detail = detail;
+            commit();
+        }
+    }
+}
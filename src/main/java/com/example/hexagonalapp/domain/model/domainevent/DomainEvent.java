@@ -0,0 +1,9 @@
+package com.example.hexagonalapp.domain.model.domainevent;
+
+/**
+ * Marker contract for events raised by the Domain layer.
+ * Events that share an aggregate ID describe the same aggregate and are delivered in order.
+ */
+public interface DomainEvent {
+    Object getAggregateId();
+}
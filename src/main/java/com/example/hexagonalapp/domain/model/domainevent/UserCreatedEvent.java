@@ -7,7 +7,7 @@ import com.example.hexagonalapp.domain.model.entity.User;
  * This event can be used to trigger side effects or notifications when a user is created.
  * It follows the Domain Event pattern for decoupling domain logic.
  */
-public class UserCreatedEvent {
+public class UserCreatedEvent implements DomainEvent {
     private final User user;
 
     public UserCreatedEvent(User user) {
@@ -18,6 +18,11 @@ public class UserCreatedEvent {
         return user;
     }
 
+    @Override
+    public Object getAggregateId() {
+        return user.getId();
+    }
+
     @Override
     public String toString() {
         return "UserCreatedEvent{" +
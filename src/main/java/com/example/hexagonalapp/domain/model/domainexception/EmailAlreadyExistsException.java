@@ -0,0 +1,16 @@
+package com.example.hexagonalapp.domain.model.domainexception;
+
+/**
+ * DomainException signalling that the email of a new user already belongs to another user.
+ * Like UserNotFoundException it is an expected outcome and is created without a stack trace.
+ */
+public class EmailAlreadyExistsException extends IllegalArgumentException {
+    public EmailAlreadyExistsException() {
+        super("Email already exists");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
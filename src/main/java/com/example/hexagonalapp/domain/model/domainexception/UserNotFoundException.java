@@ -0,0 +1,31 @@
+package com.example.hexagonalapp.domain.model.domainexception;
+
+/**
+ * DomainException signalling that no user exists for a requested ID.
+ * An expected outcome rather than a bug, so it skips the stack trace: under load a not-found
+ * answer costs an allocation, not a walk of the whole call stack.
+ */
+public class UserNotFoundException extends IllegalArgumentException {
+    private final Long userId;
+
+    /**
+     * For lookups by another key than the ID, e.g. the email.
+     */
+    public UserNotFoundException() {
+        this(null);
+    }
+
+    public UserNotFoundException(Long userId) {
+        super("User not found");
+        this.userId = userId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.hexagonalapp.domain.model.valueobject;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * ValueObject representing an email address in the Domain layer.
@@ -9,20 +8,32 @@ import java.util.regex.Pattern;
  * It follows the Value Object pattern, where equality is based on value, not identity.
  */
 public class EmailAddress {
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-        "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$"
-    );
-
     private final String value;
 
     public EmailAddress(String value) {
-        if (value == null || value.trim().isEmpty()) {
-            throw new IllegalArgumentException("Email address cannot be null or empty");
-        }
-        if (!EMAIL_PATTERN.matcher(value).matches()) {
-            throw new IllegalArgumentException("Invalid email address format");
+        this(value, true);
+    }
+
+    private EmailAddress(String value, boolean validate) {
+        if (validate) {
+            if (value == null || value.trim().isEmpty()) {
+                throw new IllegalArgumentException("Email address cannot be null or empty");
+            }
+            if (!EmailAddressSyntax.isValid(value)) {
+                throw new IllegalArgumentException("Invalid email address format");
+            }
+            // A valid address is ASCII without whitespace: no trim needed, and unchanged input is kept as is
+            value = EmailAddressSyntax.toLowerCase(value);
         }
-        this.value = value.trim().toLowerCase();
+        this.value = value;
+    }
+
+    /**
+     * Rebuilds an address that was validated and normalized before it was stored, e.g. when
+     * reading it back from persistence. Skips validation: never use it for external input.
+     */
+    public static EmailAddress ofTrusted(String normalizedValue) {
+        return new EmailAddress(Objects.requireNonNull(normalizedValue, "normalizedValue"), false);
     }
 
     public String getValue() {
@@ -0,0 +1,142 @@
+package com.example.hexagonalapp.domain.model.valueobject;
+
+/**
+ * Email address syntax check used by EmailAddress in the Domain layer.
+ * Single pass, no allocation, and the same accept/reject results as the former pattern
+ * {@code ^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}$}:
+ * a non-empty local part, one '@', and a domain whose last label has at least two ASCII
+ * letters and is preceded by at least one character.
+ * Besides Strings it checks any CharSequence range or a byte range (ASCII or UTF-8), so callers
+ * parsing a buffer can validate before building a String.
+ */
+public final class EmailAddressSyntax {
+    private static final byte LOCAL = 1;
+    private static final byte DOMAIN = 2;
+    private static final byte LETTER = 4;
+
+    // Character classes for ASCII; anything outside the table is rejected
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CLASSES[c] = LOCAL | DOMAIN | LETTER;
+            CLASSES[Character.toUpperCase(c)] = LOCAL | DOMAIN | LETTER;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CLASSES[c] = LOCAL | DOMAIN;
+        }
+        CLASSES['.'] = LOCAL | DOMAIN;
+        CLASSES['-'] = LOCAL | DOMAIN;
+        CLASSES['_'] = LOCAL;
+        CLASSES['%'] = LOCAL;
+        CLASSES['+'] = LOCAL;
+    }
+
+    private EmailAddressSyntax() {}
+
+    public static boolean isValid(CharSequence value) {
+        return isValid(value, 0, value.length());
+    }
+
+    /**
+     * Checks {@code value[start, end)}.
+     */
+    public static boolean isValid(CharSequence value, int start, int end) {
+        int i = start;
+        while (i < end && value.charAt(i) != '@') {
+            if ((classOf(value.charAt(i)) & LOCAL) == 0) {
+                return false;
+            }
+            i++;
+        }
+        if (i == start || i == end) {
+            return false;
+        }
+        int at = i;
+        int lastDot = -1;
+        boolean lastLabelLetters = false;
+        for (i = at + 1; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+                lastLabelLetters = true;
+            } else {
+                int type = classOf(c);
+                if ((type & DOMAIN) == 0) {
+                    return false;
+                }
+                lastLabelLetters &= (type & LETTER) != 0;
+            }
+        }
+        return isValidDomainEnd(at, lastDot, end, lastLabelLetters);
+    }
+
+    /**
+     * Checks the bytes {@code value[offset, offset + length)}. Non-ASCII bytes (any byte of a
+     * multi-byte UTF-8 sequence) are rejected, as their characters are by the String check.
+     */
+    public static boolean isValid(byte[] value, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        while (i < end && value[i] != '@') {
+            if ((classOf(value[i]) & LOCAL) == 0) {
+                return false;
+            }
+            i++;
+        }
+        if (i == offset || i == end) {
+            return false;
+        }
+        int at = i;
+        int lastDot = -1;
+        boolean lastLabelLetters = false;
+        for (i = at + 1; i < end; i++) {
+            byte b = value[i];
+            if (b == '.') {
+                lastDot = i;
+                lastLabelLetters = true;
+            } else {
+                int type = classOf(b);
+                if ((type & DOMAIN) == 0) {
+                    return false;
+                }
+                lastLabelLetters &= (type & LETTER) != 0;
+            }
+        }
+        return isValidDomainEnd(at, lastDot, end, lastLabelLetters);
+    }
+
+    /**
+     * ASCII lower case of a valid address; returns the same instance when there is nothing to change.
+     */
+    static String toLowerCase(String value) {
+        int i = 0;
+        int length = value.length();
+        while (i < length && !isUpperCase(value.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return value;
+        }
+        char[] chars = value.toCharArray();
+        for (; i < length; i++) {
+            if (isUpperCase(chars[i])) {
+                chars[i] += 'a' - 'A';
+            }
+        }
+        return new String(chars);
+    }
+
+    private static boolean isValidDomainEnd(int at, int lastDot, int end, boolean lastLabelLetters) {
+        // Something between '@' and the last dot, and at least two letters after it
+        return lastDot > at + 1 && end - lastDot > 2 && lastLabelLetters;
+    }
+
+    private static int classOf(int c) {
+        return c >= 0 && c < CLASSES.length ? CLASSES[c] : 0;
+    }
+
+    private static boolean isUpperCase(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+}
@@ -10,13 +10,28 @@ public class Name {
     private final String value;
 
     public Name(String value) {
-        if (value == null || value.trim().isEmpty()) {
-            throw new IllegalArgumentException("Name cannot be null or empty");
-        }
-        if (value.trim().length() < 2) {
-            throw new IllegalArgumentException("Name must be at least 2 characters long");
+        this(value, true);
+    }
+
+    private Name(String value, boolean validate) {
+        if (validate) {
+            if (value == null || value.trim().isEmpty()) {
+                throw new IllegalArgumentException("Name cannot be null or empty");
+            }
+            value = value.trim();
+            if (value.length() < 2) {
+                throw new IllegalArgumentException("Name must be at least 2 characters long");
+            }
         }
-        this.value = value.trim();
+        this.value = value;
+    }
+
+    /**
+     * Rebuilds a name that was validated and trimmed before it was stored, e.g. when reading it
+     * back from persistence. Skips validation: never use it for external input.
+     */
+    public static Name ofTrusted(String trimmedValue) {
+        return new Name(Objects.requireNonNull(trimmedValue, "trimmedValue"), false);
     }
 
     public String getValue() {
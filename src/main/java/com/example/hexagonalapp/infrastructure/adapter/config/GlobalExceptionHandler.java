@@ -0,0 +1,53 @@
+package com.example.hexagonalapp.infrastructure.adapter.config;
+
+import com.example.hexagonalapp.domain.model.domainexception.EmailAlreadyExistsException;
+import com.example.hexagonalapp.domain.model.domainexception.UserNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+
+/**
+ * Maps the outcomes of the use cases to HTTP status codes with an ErrorResponse body.
+ * Not-found and duplicate-email are ordinary results on a hot path, so the domain throws them
+ * as stackless exceptions and this handler only turns them into a small JSON body.
+ */
+@RestControllerAdvice
+@Profile("!reactive")
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleUserNotFound(UserNotFoundException e, HttpServletRequest request) {
+        return errorResponse(HttpStatus.NOT_FOUND, e.getMessage(), request.getRequestURI());
+    }
+
+    @ExceptionHandler(EmailAlreadyExistsException.class)
+    public ResponseEntity<ErrorResponse> handleEmailAlreadyExists(EmailAlreadyExistsException e, HttpServletRequest request) {
+        return errorResponse(HttpStatus.CONFLICT, e.getMessage(), request.getRequestURI());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e, HttpServletRequest request) {
+        return errorResponse(HttpStatus.BAD_REQUEST, e.getMessage(), request.getRequestURI());
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException e, HttpServletRequest request) {
+        return errorResponse(HttpStatus.BAD_REQUEST, firstFieldError(e.getFieldError()), request.getRequestURI());
+    }
+
+    static ResponseEntity<ErrorResponse> errorResponse(HttpStatus status, String message, String path) {
+        ErrorResponse body = new ErrorResponse(LocalDateTime.now(), status.value(), status.getReasonPhrase(), message, path);
+        return ResponseEntity.status(status).body(body);
+    }
+
+    static String firstFieldError(FieldError fieldError) {
+        return fieldError != null ? fieldError.getDefaultMessage() : "Validation failed";
+    }
+}
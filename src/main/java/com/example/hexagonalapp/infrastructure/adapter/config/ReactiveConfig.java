@@ -0,0 +1,66 @@
+package com.example.hexagonalapp.infrastructure.adapter.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Spring Configuration class for the non-blocking stack in the Infrastructure layer.
+ * Active with the {@code reactive} profile. Requests are served by Netty event loops and the
+ * user table is reached through a pooled R2DBC connection to the same database used by JPA.
+ * The pool is deliberately not exposed as a ConnectionFactory bean (the JDBC DataSource
+ * auto-configuration backs off when one exists) and its transaction manager is only used
+ * through the operator below, so the JPA transaction manager stays the single default one.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig implements DisposableBean {
+    private final ConnectionPool connectionPool;
+
+    public ReactiveConfig(@Value("${app.r2dbc.url}") String url, @Value("${app.r2dbc.pool.max-size:10}") int maxSize,
+                          @Value("${spring.datasource.username:}") String username,
+                          @Value("${spring.datasource.password:}") String password) {
+        // Same credentials as the JDBC DataSource, since both reach the same database
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(Math.min(2, maxSize))
+                .maxSize(maxSize)
+                .build());
+    }
+
+    /**
+     * Netty instead of Tomcat: both are on the classpath and Tomcat would otherwise be preferred.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public DatabaseClient r2dbcDatabaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean
+    public TransactionalOperator r2dbcTransactionalOperator() {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
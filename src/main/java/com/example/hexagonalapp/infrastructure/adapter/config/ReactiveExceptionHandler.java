@@ -0,0 +1,43 @@
+package com.example.hexagonalapp.infrastructure.adapter.config;
+
+import com.example.hexagonalapp.domain.model.domainexception.EmailAlreadyExistsException;
+import com.example.hexagonalapp.domain.model.domainexception.UserNotFoundException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import static com.example.hexagonalapp.infrastructure.adapter.config.GlobalExceptionHandler.errorResponse;
+import static com.example.hexagonalapp.infrastructure.adapter.config.GlobalExceptionHandler.firstFieldError;
+
+/**
+ * WebFlux counterpart of GlobalExceptionHandler for the {@code reactive} profile,
+ * producing the same status codes and ErrorResponse body.
+ */
+@RestControllerAdvice
+@Profile("reactive")
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleUserNotFound(UserNotFoundException e, ServerHttpRequest request) {
+        return errorResponse(HttpStatus.NOT_FOUND, e.getMessage(), request.getPath().value());
+    }
+
+    @ExceptionHandler(EmailAlreadyExistsException.class)
+    public ResponseEntity<ErrorResponse> handleEmailAlreadyExists(EmailAlreadyExistsException e, ServerHttpRequest request) {
+        return errorResponse(HttpStatus.CONFLICT, e.getMessage(), request.getPath().value());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e, ServerHttpRequest request) {
+        return errorResponse(HttpStatus.BAD_REQUEST, e.getMessage(), request.getPath().value());
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidation(WebExchangeBindException e, ServerHttpRequest request) {
+        return errorResponse(HttpStatus.BAD_REQUEST, firstFieldError(e.getFieldError()), request.getPath().value());
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.hexagonalapp.infrastructure.adapter.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Spring Configuration class for threading in the Infrastructure layer.
+ * Background workers follow {@code spring.threads.virtual.enabled}, the same switch that moves
+ * Tomcat request handling onto virtual threads (see the {@code virtual-threads} profile).
+ */
+@Configuration
+public class ThreadingConfig {
+
+    @Bean
+    public WorkerThreadFactory workerThreadFactory(Environment environment) {
+        return new WorkerThreadFactory(Threading.VIRTUAL.isActive(environment));
+    }
+}
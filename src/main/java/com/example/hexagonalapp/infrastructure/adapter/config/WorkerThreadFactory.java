@@ -0,0 +1,35 @@
+package com.example.hexagonalapp.infrastructure.adapter.config;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the thread factories used by background workers (email dispatch, event lanes).
+ * Produces virtual threads when virtual threading is active (JDK 21+), daemon platform
+ * threads otherwise.
+ */
+public class WorkerThreadFactory {
+    private final boolean virtual;
+
+    public WorkerThreadFactory(boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    public ThreadFactory create(String namePrefix) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(namePrefix).getVirtualThreadFactory();
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+}
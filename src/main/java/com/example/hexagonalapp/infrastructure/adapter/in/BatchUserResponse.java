@@ -0,0 +1,64 @@
+package com.example.hexagonalapp.infrastructure.adapter.in;
+
+/**
+ * DTO for a single item of a batch user creation response in REST API.
+ * Carries either the created user or the error that rejected the item.
+ */
+public class BatchUserResponse {
+    private int index;
+    private String email;
+    private boolean created;
+    private UserResponse user;
+    private String error;
+
+    public BatchUserResponse() {}
+
+    public BatchUserResponse(int index, String email, boolean created, UserResponse user, String error) {
+        this.index = index;
+        this.email = email;
+        this.created = created;
+        this.user = user;
+        this.error = error;
+    }
+
+    // Getters and setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public boolean isCreated() {
+        return created;
+    }
+
+    public void setCreated(boolean created) {
+        this.created = created;
+    }
+
+    public UserResponse getUser() {
+        return user;
+    }
+
+    public void setUser(UserResponse user) {
+        this.user = user;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
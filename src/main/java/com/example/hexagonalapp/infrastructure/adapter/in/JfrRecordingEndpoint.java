@@ -0,0 +1,132 @@
+package com.example.hexagonalapp.infrastructure.adapter.in;
+
+import com.example.hexagonalapp.application.service.UserStageEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint controlling an in-process JDK Flight Recorder recording in the Infrastructure layer.
+ * <ul>
+ *   <li>{@code GET /actuator/jfr}: recording status</li>
+ *   <li>{@code POST /actuator/jfr}: starts the recording if needed; {@code {"stageEvents": false}}
+ *       turns the use case stage events off (or back on) while it keeps running</li>
+ *   <li>{@code GET /actuator/jfr/dump}: writes the recording so far to the dump file and downloads it</li>
+ *   <li>{@code DELETE /actuator/jfr}: stops and discards the recording</li>
+ * </ul>
+ * Not exposed over HTTP by default, since anyone reaching it can start recordings and download
+ * their dumps; the {@code profiling} profile exposes it on a management port bound to loopback.
+ * Without the endpoint, {@code jcmd <pid> JFR.start settings=<file>} works as well with a settings
+ * file that enables {@value UserStageEvent#NAME}.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@EnableConfigurationProperties(JfrRecordingProperties.class)
+public class JfrRecordingEndpoint implements DisposableBean {
+    private static final String RECORDING_NAME = "hexagonal-app";
+
+    private final JfrRecordingProperties properties;
+    private Recording recording;
+    private boolean stageEvents;
+
+    public JfrRecordingEndpoint(JfrRecordingProperties properties) {
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", recording != null);
+        if (recording != null) {
+            status.put("startTime", recording.getStartTime());
+            status.put("stageEvents", stageEvents);
+            status.put("settings", properties.getSettings());
+            status.put("maxAge", recording.getMaxAge());
+            status.put("sizeBytes", recording.getSize());
+        }
+        return status;
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable Boolean stageEvents) {
+        if (recording == null) {
+            Recording started = new Recording(configuration());
+            started.setName(RECORDING_NAME);
+            started.setToDisk(true);
+            started.setMaxAge(properties.getMaxAge());
+            started.setMaxSize(properties.getMaxSize().toBytes());
+            recording = started;
+            applyStageEvents(stageEvents == null || stageEvents);
+            started.start();
+        } else if (stageEvents != null) {
+            applyStageEvents(stageEvents);
+        }
+        return status();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized Resource dump(@Selector String action) {
+        if (!"dump".equals(action) || recording == null) {
+            return null;
+        }
+        Path file = properties.getDumpFile().toAbsolutePath();
+        try {
+            Files.createDirectories(file.getParent());
+            recording.dump(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new FileSystemResource(file);
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        return status();
+    }
+
+    @Override
+    public void destroy() {
+        stop();
+    }
+
+    private Configuration configuration() {
+        try {
+            return Configuration.getConfiguration(properties.getSettings());
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR settings: " + properties.getSettings(), e);
+        }
+    }
+
+    private void applyStageEvents(boolean enabled) {
+        if (enabled) {
+            // No threshold: every stage of every request is recorded
+            recording.enable(UserStageEvent.NAME).withThreshold(Duration.ZERO);
+        } else {
+            recording.disable(UserStageEvent.NAME);
+        }
+        stageEvents = enabled;
+    }
+}
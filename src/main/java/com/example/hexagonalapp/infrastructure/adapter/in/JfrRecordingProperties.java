@@ -0,0 +1,51 @@
+package com.example.hexagonalapp.infrastructure.adapter.in;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for recordings started through the {@code jfr} actuator endpoint ({@code app.tracing.jfr.*}).
+ */
+@ConfigurationProperties(prefix = "app.tracing.jfr")
+public class JfrRecordingProperties {
+    /** JDK settings the recording starts from: "default" (about 1% overhead) or "profile". */
+    private String settings = "default";
+    private Duration maxAge = Duration.ofMinutes(10);
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+    private Path dumpFile = Path.of(System.getProperty("java.io.tmpdir"), "hexagonal-app.jfr");
+
+    public String getSettings() {
+        return settings;
+    }
+
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Path getDumpFile() {
+        return dumpFile;
+    }
+
+    public void setDumpFile(Path dumpFile) {
+        this.dumpFile = dumpFile;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.hexagonalapp.infrastructure.adapter.in;
+
+import com.example.hexagonalapp.application.port.in.ReactiveCreateUserUseCase;
+import com.example.hexagonalapp.application.port.in.ReactiveGetUserUseCase;
+import com.example.hexagonalapp.domain.model.entity.User;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking REST Controller for User operations in the Infrastructure layer.
+ * Active with the {@code reactive} profile, where it replaces UserController on the same paths.
+ * Handlers only assemble the pipeline; Netty event loops serve the requests while the
+ * database calls are in flight.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/users")
+public class ReactiveUserController {
+    private final ReactiveCreateUserUseCase reactiveCreateUserUseCase;
+    private final ReactiveGetUserUseCase reactiveGetUserUseCase;
+
+    public ReactiveUserController(ReactiveCreateUserUseCase reactiveCreateUserUseCase, ReactiveGetUserUseCase reactiveGetUserUseCase) {
+        this.reactiveCreateUserUseCase = reactiveCreateUserUseCase;
+        this.reactiveGetUserUseCase = reactiveGetUserUseCase;
+    }
+
+    @PostMapping
+    public Mono<UserResponse> createUser(@Valid @RequestBody UserController.CreateUserRequest request) {
+        return reactiveCreateUserUseCase.createUser(request.getName(), request.getEmail())
+                .map(this::toResponse);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<UserResponse> getUser(@PathVariable Long id) {
+        return reactiveGetUserUseCase.getUser(id)
+                .map(this::toResponse);
+    }
+
+    private UserResponse toResponse(User user) {
+        return new UserResponse(
+            user.getId().getValue(),
+            user.getName().getValue(),
+            user.getEmail().getValue()
+        );
+    }
+}
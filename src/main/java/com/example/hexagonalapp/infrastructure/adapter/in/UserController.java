@@ -1,28 +1,66 @@
 package com.example.hexagonalapp.infrastructure.adapter.in;
 
+import com.example.hexagonalapp.application.dto.CreateUserCommand;
+import com.example.hexagonalapp.application.dto.UserCreationResult;
+import com.example.hexagonalapp.application.dto.UserImportSummary;
+import com.example.hexagonalapp.application.dto.UserLookupResult;
+import com.example.hexagonalapp.application.dto.UserPage;
+import com.example.hexagonalapp.application.dto.UserSummary;
 import com.example.hexagonalapp.application.port.in.CreateUserUseCase;
+import com.example.hexagonalapp.application.port.in.CreateUsersBatchUseCase;
+import com.example.hexagonalapp.application.port.in.ExportUsersUseCase;
+import com.example.hexagonalapp.application.port.in.FindUserByEmailUseCase;
 import com.example.hexagonalapp.application.port.in.GetUserUseCase;
+import com.example.hexagonalapp.application.port.in.GetUsersUseCase;
+import com.example.hexagonalapp.application.port.in.ImportUsersUseCase;
+import com.example.hexagonalapp.application.port.in.ListUsersUseCase;
 import com.example.hexagonalapp.domain.model.entity.User;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * REST Controller for User operations in the Infrastructure layer.
  * This adapter depends on input port interfaces from the Application layer.
  * It handles HTTP requests and responses, delegating to use case interfaces.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/users")
 public class UserController {
     private final CreateUserUseCase createUserUseCase;
+    private final CreateUsersBatchUseCase createUsersBatchUseCase;
     private final GetUserUseCase getUserUseCase;
+    private final GetUsersUseCase getUsersUseCase;
+    private final FindUserByEmailUseCase findUserByEmailUseCase;
+    private final ListUsersUseCase listUsersUseCase;
+    private final ExportUsersUseCase exportUsersUseCase;
+    private final ImportUsersUseCase importUsersUseCase;
 
-    public UserController(CreateUserUseCase createUserUseCase, GetUserUseCase getUserUseCase) {
+    public UserController(CreateUserUseCase createUserUseCase, CreateUsersBatchUseCase createUsersBatchUseCase,
+                          GetUserUseCase getUserUseCase, GetUsersUseCase getUsersUseCase,
+                          FindUserByEmailUseCase findUserByEmailUseCase, ListUsersUseCase listUsersUseCase,
+                          ExportUsersUseCase exportUsersUseCase, ImportUsersUseCase importUsersUseCase) {
         this.createUserUseCase = createUserUseCase;
+        this.createUsersBatchUseCase = createUsersBatchUseCase;
         this.getUserUseCase = getUserUseCase;
+        this.getUsersUseCase = getUsersUseCase;
+        this.findUserByEmailUseCase = findUserByEmailUseCase;
+        this.listUsersUseCase = listUsersUseCase;
+        this.exportUsersUseCase = exportUsersUseCase;
+        this.importUsersUseCase = importUsersUseCase;
     }
 
     @PostMapping
@@ -36,6 +74,87 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchUserResponse>> createUsers(@RequestBody List<CreateUserRequest> requests) {
+        List<CreateUserCommand> commands = new ArrayList<>(requests.size());
+        for (CreateUserRequest request : requests) {
+            commands.add(new CreateUserCommand(request.getName(), request.getEmail()));
+        }
+        List<UserCreationResult> results = createUsersBatchUseCase.createUsers(commands);
+        List<BatchUserResponse> response = new ArrayList<>(results.size());
+        for (UserCreationResult result : results) {
+            UserResponse user = result.isCreated() ? toResponse(result.getUser()) : null;
+            response.add(new BatchUserResponse(result.getIndex(), result.getEmail(), result.isCreated(), user, result.getError()));
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping
+    public ResponseEntity<UserPageResponse> listUsers(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "" + ListUsersUseCase.DEFAULT_LIMIT) int limit) {
+        Long afterId = cursor == null ? null : UserCursor.decode(cursor);
+        UserPage page = listUsersUseCase.listUsers(afterId, limit);
+        List<UserResponse> items = new ArrayList<>(page.getItems().size());
+        for (UserSummary summary : page.getItems()) {
+            items.add(new UserResponse(summary.getId(), summary.getName(), summary.getEmail()));
+        }
+        String nextCursor = page.hasNext() ? UserCursor.encode(page.getNextAfterId()) : null;
+        return ResponseEntity.ok(new UserPageResponse(items, nextCursor));
+    }
+
+    /**
+     * Looks up many users in one request, e.g. {@code GET /api/users?ids=1,2,3}.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<UserLookupResponse> getUsers(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(toLookupResponse(getUsersUseCase.getUsers(ids)));
+    }
+
+    /**
+     * Same as {@code GET /api/users?ids=...} with the IDs as a JSON array body, for lists too long for a URL.
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<UserLookupResponse> lookupUsers(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(toLookupResponse(getUsersUseCase.getUsers(ids)));
+    }
+
+    /**
+     * Streams all users as NDJSON (default) or CSV. Rows go to the client while the database
+     * cursor advances, so memory use does not depend on the table size. Written synchronously
+     * on the request thread, so no async request timeout applies to long exports.
+     */
+    @GetMapping("/export")
+    public void exportUsers(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+            throws IOException {
+        UserExportFormat exportFormat = UserExportFormat.of(format);
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(exportFormat.fileName()).build().toString());
+        try (UserExportFormat.RowWriter writer = exportFormat.open(response.getOutputStream())) {
+            exportUsersUseCase.exportUsers(writer);
+        }
+    }
+
+    /**
+     * Imports users from an NDJSON or CSV body of any size. The body is parsed while it is uploaded
+     * and committed in chunks of {@code chunkSize} rows; rejected rows and per-chunk progress are
+     * streamed back as NDJSON, ending with a summary line. If the import fails midway, the last
+     * progress line tells which rows were already committed.
+     */
+    @PostMapping(value = "/import", consumes = {UserImportReader.NDJSON, UserImportReader.CSV})
+    public void importUsers(@RequestParam(defaultValue = "" + ImportUsersUseCase.DEFAULT_CHUNK_SIZE) int chunkSize,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        UserImportReader reader = UserImportReader.open(MediaType.parseMediaType(request.getContentType()),
+                request.getInputStream());
+        response.setContentType(UserImportReader.NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        try (UserImportProgressWriter writer = new UserImportProgressWriter(response.getOutputStream())) {
+            UserImportSummary summary = importUsersUseCase.importUsers(reader, chunkSize, writer);
+            writer.writeSummary(summary);
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<UserResponse> getUser(@PathVariable Long id) {
         User user = getUserUseCase.getUser(id);
@@ -47,6 +166,30 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Resolves a user by email, case-insensitively, e.g. {@code GET /api/users/by-email/Jane@Example.com}.
+     */
+    @GetMapping("/by-email/{email}")
+    public ResponseEntity<UserResponse> findUserByEmail(@PathVariable String email) {
+        return ResponseEntity.ok(toResponse(findUserByEmailUseCase.findUserByEmail(email)));
+    }
+
+    private UserLookupResponse toLookupResponse(UserLookupResult result) {
+        List<UserResponse> users = new ArrayList<>(result.getUsers().size());
+        for (User user : result.getUsers()) {
+            users.add(toResponse(user));
+        }
+        return new UserLookupResponse(users, result.getMissingIds());
+    }
+
+    private UserResponse toResponse(User user) {
+        return new UserResponse(
+            user.getId().getValue(),
+            user.getName().getValue(),
+            user.getEmail().getValue()
+        );
+    }
+
     // DTO for request body
     public static class CreateUserRequest {
         @NotBlank(message = "Name is required")
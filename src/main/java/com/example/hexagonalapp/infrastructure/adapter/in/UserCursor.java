@@ -0,0 +1,33 @@
+package com.example.hexagonalapp.infrastructure.adapter.in;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Opaque page cursor for the user listing in REST API.
+ * Wraps the last ID of a page as URL-safe Base64 so clients treat it as a token rather than
+ * building their own; the encoding can change without breaking them.
+ */
+final class UserCursor {
+    private static final byte VERSION = 1;
+
+    private UserCursor() {}
+
+    static String encode(long afterId) {
+        byte[] bytes = ByteBuffer.allocate(9).put(VERSION).putLong(afterId).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static long decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (bytes.length != 9 || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return ByteBuffer.wrap(bytes, 1, 8).getLong();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.hexagonalapp.infrastructure.adapter.in;
+
+import com.example.hexagonalapp.application.dto.UserSummary;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Output formats of the user export in REST API.
+ * Each row is written to the response as soon as it is read; only a fixed-size buffer is held.
+ */
+enum UserExportFormat {
+    NDJSON("application/x-ndjson", "users.ndjson") {
+        @Override
+        RowWriter open(OutputStream out) throws IOException {
+            JsonGenerator generator = JSON_FACTORY.createGenerator(out);
+            // Rows are separated by the explicit newline below, not by Jackson's default space
+            generator.setRootValueSeparator(null);
+            return new RowWriter() {
+                @Override
+                void write(UserSummary user) throws IOException {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", user.getId());
+                    generator.writeStringField("name", user.getName());
+                    generator.writeStringField("email", user.getEmail());
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                }
+
+                @Override
+                public void close() throws IOException {
+                    generator.close();
+                }
+            };
+        }
+    },
+    CSV("text/csv", "users.csv") {
+        @Override
+        RowWriter open(OutputStream out) throws IOException {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writer.write("id,name,email\r\n");
+            return new RowWriter() {
+                @Override
+                void write(UserSummary user) throws IOException {
+                    writer.write(Long.toString(user.getId()));
+                    writer.write(',');
+                    writeField(writer, user.getName());
+                    writer.write(',');
+                    writeField(writer, user.getEmail());
+                    writer.write("\r\n");
+                }
+
+                @Override
+                public void close() throws IOException {
+                    writer.close();
+                }
+            };
+        }
+    };
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String contentType;
+    private final String fileName;
+
+    UserExportFormat(String contentType, String fileName) {
+        this.contentType = contentType;
+        this.fileName = fileName;
+    }
+
+    static UserExportFormat of(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + name);
+        }
+    }
+
+    String contentType() {
+        return contentType;
+    }
+
+    String fileName() {
+        return fileName;
+    }
+
+    abstract RowWriter open(OutputStream out) throws IOException;
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks, doubling inner quotes
+    private static void writeField(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    /**
+     * Writes rows of one export; usable as the sink of ExportUsersUseCase.
+     */
+    abstract static class RowWriter implements Consumer<UserSummary>, Closeable {
+        abstract void write(UserSummary user) throws IOException;
+
+        @Override
+        public void accept(UserSummary user) {
+            try {
+                write(user);
+            } catch (IOException e) {
+                // Typically the client went away; abort the read instead of draining the table
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
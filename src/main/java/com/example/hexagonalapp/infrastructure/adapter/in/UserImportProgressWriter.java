@@ -0,0 +1,73 @@
+package com.example.hexagonalapp.infrastructure.adapter.in;
+
+import com.example.hexagonalapp.application.dto.UserCreationResult;
+import com.example.hexagonalapp.application.dto.UserImportSummary;
+import com.example.hexagonalapp.application.port.in.ImportUsersUseCase;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Streams the progress of a user import as NDJSON in REST API: one {@code rejected} line per
+ * rejected row, one {@code progress} line per committed chunk and a final {@code summary} line.
+ * Output is flushed after every chunk so clients see progress while the upload is still running.
+ */
+class UserImportProgressWriter implements ImportUsersUseCase.ImportListener, Closeable {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    UserImportProgressWriter(OutputStream out) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(out);
+        generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void onRejected(UserCreationResult result) {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("type", "rejected");
+            generator.writeNumberField("index", result.getIndex());
+            generator.writeStringField("email", result.getEmail());
+            generator.writeStringField("error", result.getError());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void onChunkCommitted(UserImportSummary progress) {
+        write("progress", progress);
+    }
+
+    void writeSummary(UserImportSummary summary) {
+        write("summary", summary);
+    }
+
+    private void write(String type, UserImportSummary totals) {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("type", type);
+            generator.writeNumberField("processed", totals.getProcessed());
+            generator.writeNumberField("created", totals.getCreated());
+            generator.writeNumberField("rejected", totals.getRejected());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            generator.flush();
+        } catch (IOException e) {
+            // Typically the client went away; stop importing instead of reading the rest of the body
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.hexagonalapp.infrastructure.adapter.in;
+
+import com.example.hexagonalapp.application.dto.CreateUserCommand;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the body of a user import one line at a time in REST API, as NDJSON objects with
+ * {@code name} and {@code email} fields or as CSV with a header row naming those columns.
+ * Blank lines are skipped. A row that cannot be parsed throws IllegalArgumentException from
+ * {@link #next()} after being consumed, so the import rejects it and carries on.
+ */
+abstract class UserImportReader implements Iterator<CreateUserCommand> {
+    static final String NDJSON = "application/x-ndjson";
+    static final String CSV = "text/csv";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BufferedReader reader;
+    private String nextLine;
+
+    private UserImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static UserImportReader open(MediaType contentType, InputStream in) {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset), BUFFER_SIZE);
+        if (MediaType.parseMediaType(NDJSON).includes(contentType)) {
+            return new NdjsonReader(reader);
+        }
+        if (MediaType.parseMediaType(CSV).includes(contentType)) {
+            return new CsvReader(reader);
+        }
+        throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (nextLine == null) {
+                String line = reader.readLine();
+                if (line == null) {
+                    return false;
+                }
+                if (!line.isBlank()) {
+                    nextLine = line;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public CreateUserCommand next() {
+        return parse(takeLine());
+    }
+
+    final String takeLine() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        nextLine = null;
+        return line;
+    }
+
+    abstract CreateUserCommand parse(String line);
+
+    private static final class NdjsonReader extends UserImportReader {
+        NdjsonReader(BufferedReader reader) {
+            super(reader);
+        }
+
+        @Override
+        CreateUserCommand parse(String line) {
+            try (JsonParser parser = JSON_FACTORY.createParser(line)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IllegalArgumentException("Malformed JSON row: expected an object");
+                }
+                String name = null;
+                String email = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    JsonToken value = parser.nextToken();
+                    if ("name".equals(field) && value == JsonToken.VALUE_STRING) {
+                        name = parser.getText();
+                    } else if ("email".equals(field) && value == JsonToken.VALUE_STRING) {
+                        email = parser.getText();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                if (parser.nextToken() != null) {
+                    throw new IllegalArgumentException("Malformed JSON row: one object per line expected");
+                }
+                return new CreateUserCommand(name, email);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Malformed JSON row: " + e.getOriginalMessage());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * RFC 4180 fields, except that a quoted field cannot span lines.
+     */
+    private static final class CsvReader extends UserImportReader {
+        private int nameColumn = -1;
+        private int emailColumn = -1;
+
+        CsvReader(BufferedReader reader) {
+            super(reader);
+            if (hasNext()) {
+                List<String> header = split(takeLine());
+                for (int i = 0; i < header.size(); i++) {
+                    String column = header.get(i).strip().toLowerCase(Locale.ROOT);
+                    if (i == 0 && column.startsWith("\uFEFF")) {
+                        column = column.substring(1);
+                    }
+                    if (column.equals("name")) {
+                        nameColumn = i;
+                    } else if (column.equals("email")) {
+                        emailColumn = i;
+                    }
+                }
+                if (nameColumn < 0 || emailColumn < 0) {
+                    throw new IllegalArgumentException("CSV header must contain name and email columns");
+                }
+            }
+        }
+
+        @Override
+        CreateUserCommand parse(String line) {
+            List<String> fields = split(line);
+            if (fields.size() <= Math.max(nameColumn, emailColumn)) {
+                throw new IllegalArgumentException("Malformed CSV row: expected name and email columns");
+            }
+            return new CreateUserCommand(fields.get(nameColumn), fields.get(emailColumn));
+        }
+
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>(4);
+            StringBuilder field = new StringBuilder();
+            int i = 0;
+            while (true) {
+                if (i < line.length() && line.charAt(i) == '"') {
+                    // Quoted field; a doubled quote stands for one quote
+                    i++;
+                    while (true) {
+                        if (i >= line.length()) {
+                            throw new IllegalArgumentException("Malformed CSV row: unterminated quoted field");
+                        }
+                        char c = line.charAt(i++);
+                        if (c != '"') {
+                            field.append(c);
+                        } else if (i < line.length() && line.charAt(i) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            break;
+                        }
+                    }
+                    if (i < line.length() && line.charAt(i) != ',') {
+                        throw new IllegalArgumentException("Malformed CSV row: unexpected character after quoted field");
+                    }
+                } else {
+                    int end = line.indexOf(',', i);
+                    field.append(line, i, end < 0 ? line.length() : end);
+                    i = end < 0 ? line.length() : end;
+                }
+                fields.add(field.toString());
+                field.setLength(0);
+                if (i >= line.length()) {
+                    return fields;
+                }
+                i++; // skip the separator
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.hexagonalapp.infrastructure.adapter.in;
+
+import java.util.List;
+
+/**
+ * DTO for a lookup of many users by ID in REST API.
+ * Users follow the order of the requested IDs; IDs without a user are listed in {@code missingIds}.
+ */
+public class UserLookupResponse {
+    private List<UserResponse> users;
+    private List<Long> missingIds;
+
+    public UserLookupResponse() {}
+
+    public UserLookupResponse(List<UserResponse> users, List<Long> missingIds) {
+        this.users = users;
+        this.missingIds = missingIds;
+    }
+
+    // Getters and setters
+    public List<UserResponse> getUsers() {
+        return users;
+    }
+
+    public void setUsers(List<UserResponse> users) {
+        this.users = users;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.hexagonalapp.infrastructure.adapter.in;
+
+import java.util.List;
+
+/**
+ * DTO for one page of the user listing in REST API.
+ * {@code nextCursor} is null on the last page; pass it back as {@code cursor} to get the next one.
+ */
+public class UserPageResponse {
+    private List<UserResponse> items;
+    private String nextCursor;
+
+    public UserPageResponse() {}
+
+    public UserPageResponse(List<UserResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and setters
+    public List<UserResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<UserResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
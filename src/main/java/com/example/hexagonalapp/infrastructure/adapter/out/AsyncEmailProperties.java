@@ -0,0 +1,70 @@
+package com.example.hexagonalapp.infrastructure.adapter.out;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for asynchronous welcome-email dispatch ({@code app.email.async.*}).
+ */
+@ConfigurationProperties(prefix = "app.email.async")
+public class AsyncEmailProperties {
+
+    /**
+     * What to do when the dispatch queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait up to {@code offer-timeout} for space, then drop. */
+        BLOCK,
+        /** Drop the email immediately. */
+        DROP,
+        /** Send the email on the calling thread. */
+        CALLER_RUNS
+    }
+
+    private boolean enabled = false;
+    private int queueCapacity = 10_000;
+    private int batchSize = 100;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private Duration offerTimeout = Duration.ofMillis(50);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public Duration getOfferTimeout() {
+        return offerTimeout;
+    }
+
+    public void setOfferTimeout(Duration offerTimeout) {
+        this.offerTimeout = offerTimeout;
+    }
+}
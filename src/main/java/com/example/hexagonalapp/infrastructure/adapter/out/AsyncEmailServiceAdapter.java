@@ -0,0 +1,254 @@
+package com.example.hexagonalapp.infrastructure.adapter.out;
+
+import com.example.hexagonalapp.application.port.out.EmailService;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.infrastructure.adapter.config.WorkerThreadFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Asynchronous adapter implementation of EmailService in the Infrastructure layer.
+ * Welcome emails are put on a bounded queue and sent in batches by a dedicated dispatcher
+ * thread through the synchronous provider adapter, so request latency no longer includes
+ * the email provider's latency. Inside a transaction, the email is only queued after commit.
+ * Batches wait for room in the queue instead of applying the overflow policy.
+ * Queue depth, dispatch latency and the dispatched, dropped and failed counts are exported
+ * as {@code app.email.*} meters, so emails lost to queue overflow are visible.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "app.email.async", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(AsyncEmailProperties.class)
+public class AsyncEmailServiceAdapter implements EmailService, MeterBinder {
+    static final String QUEUE_DEPTH = "app.email.queue.depth";
+    static final String DISPATCH_LATENCY = "app.email.dispatch.latency";
+    static final String EMAILS = "app.email.welcome";
+    private static final Logger log = LoggerFactory.getLogger(AsyncEmailServiceAdapter.class);
+
+    private final EmailService provider;
+    private final AsyncEmailProperties properties;
+    private final BlockingQueue<WelcomeEmail> queue;
+    private final ExecutorService dispatcher;
+    private volatile boolean running = true;
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public AsyncEmailServiceAdapter(@Qualifier("emailServiceAdapter") EmailService provider, AsyncEmailProperties properties,
+                                    WorkerThreadFactory workerThreadFactory) {
+        this.provider = provider;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.dispatcher = Executors.newSingleThreadExecutor(workerThreadFactory.create("email-dispatcher-"));
+        this.dispatcher.execute(this::drainLoop);
+    }
+
+    @Override
+    public void sendWelcomeEmail(String email, String name) {
+        WelcomeEmail message = new WelcomeEmail(email, name);
+        afterCommit(() -> enqueue(message));
+    }
+
+    /**
+     * Queues the emails of a batch with a single commit hook. A batch waits for room in the
+     * queue whatever the overflow policy, so a bulk import is paced by the dispatcher instead
+     * of dropping most of its emails; only a shutdown or an interrupt drops the rest.
+     */
+    @Override
+    public void sendWelcomeEmails(List<User> users) {
+        List<WelcomeEmail> messages = new ArrayList<>(users.size());
+        for (User user : users) {
+            messages.add(new WelcomeEmail(user.getEmail().getValue(), user.getName().getValue()));
+        }
+        afterCommit(() -> enqueueAll(messages));
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    public long dispatchedCount() {
+        return dispatched.sum();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Average time between queuing and sending, in milliseconds.
+     */
+    public double averageDispatchLatencyMillis() {
+        long count = dispatched.sum();
+        return count == 0 ? 0.0 : totalLatencyNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double maxDispatchLatencyMillis() {
+        return maxLatencyNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(QUEUE_DEPTH, this, AsyncEmailServiceAdapter::queueDepth)
+                .description("Welcome emails waiting to be sent")
+                .register(registry);
+        TimeGauge.builder(DISPATCH_LATENCY, this, TimeUnit.MILLISECONDS, AsyncEmailServiceAdapter::averageDispatchLatencyMillis)
+                .tag("stat", "average")
+                .description("Time between queuing and sending a welcome email")
+                .register(registry);
+        TimeGauge.builder(DISPATCH_LATENCY, this, TimeUnit.MILLISECONDS, AsyncEmailServiceAdapter::maxDispatchLatencyMillis)
+                .tag("stat", "max")
+                .description("Time between queuing and sending a welcome email")
+                .register(registry);
+        counter(registry, "dispatched", AsyncEmailServiceAdapter::dispatchedCount, "Welcome emails sent");
+        counter(registry, "dropped", AsyncEmailServiceAdapter::droppedCount, "Welcome emails dropped because the queue was full");
+        counter(registry, "failed", AsyncEmailServiceAdapter::failedCount, "Welcome emails the provider failed to send");
+    }
+
+    private void counter(MeterRegistry registry, String outcome, ToDoubleFunction<AsyncEmailServiceAdapter> count, String description) {
+        FunctionCounter.builder(EMAILS, this, count)
+                .tag("outcome", outcome)
+                .description(description)
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        dispatcher.shutdown();
+        if (!dispatcher.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("Email dispatcher did not finish; {} welcome emails not sent", queue.size());
+            dispatcher.shutdownNow();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A rolled-back insert must never send an email
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void enqueueAll(List<WelcomeEmail> messages) {
+        for (int i = 0; i < messages.size(); i++) {
+            WelcomeEmail message = messages.get(i);
+            message.enqueuedAt = System.nanoTime();
+            try {
+                while (!queue.offer(message, 100, TimeUnit.MILLISECONDS)) {
+                    if (!running) {
+                        dropped.add(messages.size() - i);
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dropped.add(messages.size() - i);
+                return;
+            }
+        }
+    }
+
+    private void enqueue(WelcomeEmail message) {
+        message.enqueuedAt = System.nanoTime();
+        if (queue.offer(message)) {
+            return;
+        }
+        switch (properties.getOverflowPolicy()) {
+            case BLOCK -> {
+                try {
+                    if (!queue.offer(message, properties.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                        dropped.increment();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                }
+            }
+            case DROP -> dropped.increment();
+            case CALLER_RUNS -> deliver(message);
+        }
+    }
+
+    private void drainLoop() {
+        List<WelcomeEmail> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                WelcomeEmail first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                for (WelcomeEmail message : batch) {
+                    deliver(message);
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void deliver(WelcomeEmail message) {
+        try {
+            provider.sendWelcomeEmail(message.email, message.name);
+            long latency = System.nanoTime() - message.enqueuedAt;
+            dispatched.increment();
+            totalLatencyNanos.add(latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Failed to send welcome email to {}", message.email, e);
+        }
+    }
+
+    private static final class WelcomeEmail {
+        private final String email;
+        private final String name;
+        private long enqueuedAt;
+
+        private WelcomeEmail(String email, String name) {
+            this.email = email;
+            this.name = name;
+        }
+    }
+}
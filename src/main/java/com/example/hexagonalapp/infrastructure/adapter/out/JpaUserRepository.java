@@ -1,47 +1,194 @@
 package com.example.hexagonalapp.infrastructure.adapter.out;
 
+import com.example.hexagonalapp.application.dto.UserSummary;
 import com.example.hexagonalapp.application.port.out.UserRepository;
 import com.example.hexagonalapp.domain.model.entity.User;
 import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
-import com.example.hexagonalapp.domain.model.valueobject.Name;
 import com.example.hexagonalapp.domain.model.valueobject.UserId;
+import com.example.hexagonalapp.infrastructure.adapter.out.outbox.OutboxWriter;
 import com.example.hexagonalapp.infrastructure.persistence.entity.UserEntity;
+import com.example.hexagonalapp.infrastructure.persistence.intern.ValueObjectInterner;
+import com.example.hexagonalapp.infrastructure.persistence.routing.ReadYourWrites;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * JPA implementation of UserRepository in the Infrastructure layer.
  * This adapter implements the output port interface using Spring Data JPA.
  * It handles data transformation between domain and persistence models.
+ * Lookups run in read-only transactions, which read/write routing sends to the replicas;
+ * users saved within the read-your-writes window are read from the primary instead.
  */
 @Repository
 public class JpaUserRepository implements UserRepository {
+    static final int IN_LIST_CHUNK_SIZE = 500;
+
     private final SpringDataUserRepository springDataRepository;
+    private final OutboxWriter outboxWriter;
+    private final ValueObjectInterner valueObjectInterner;
+    private final ReadYourWrites readYourWrites;
 
-    public JpaUserRepository(SpringDataUserRepository springDataRepository) {
+    public JpaUserRepository(SpringDataUserRepository springDataRepository, ObjectProvider<OutboxWriter> outboxWriter,
+                             ValueObjectInterner valueObjectInterner, ObjectProvider<ReadYourWrites> readYourWrites) {
         this.springDataRepository = springDataRepository;
+        this.outboxWriter = outboxWriter.getIfAvailable();
+        this.valueObjectInterner = valueObjectInterner;
+        this.readYourWrites = readYourWrites.getIfAvailable();
     }
 
     @Override
+    @Transactional
     public User save(User user) {
+        boolean created = user.getId() == null;
         UserEntity entity = toEntity(user);
-        UserEntity savedEntity = springDataRepository.save(entity);
+        UserEntity savedEntity;
+        try {
+            // Flush here rather than at commit, so a duplicate email surfaces where it can be translated
+            savedEntity = springDataRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueEmailViolation.translate(e);
+        }
+        if (created && outboxWriter != null) {
+            // Same transaction as the insert: the event exists if and only if the user does
+            outboxWriter.appendUserCreated(savedEntity);
+        }
+        recordWrite(savedEntity);
         return toDomain(savedEntity);
     }
 
     @Override
+    @Transactional
+    public List<User> saveAll(List<User> users) {
+        List<UserEntity> entities = new ArrayList<>(users.size());
+        for (User user : users) {
+            entities.add(toEntity(user));
+        }
+        // Inserts are grouped into JDBC batches (see hibernate.jdbc.batch_size) on flush
+        List<UserEntity> savedEntities;
+        try {
+            savedEntities = springDataRepository.saveAllAndFlush(entities);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueEmailViolation.translate(e);
+        }
+        if (outboxWriter != null) {
+            List<UserEntity> createdEntities = new ArrayList<>(savedEntities.size());
+            for (int i = 0; i < savedEntities.size(); i++) {
+                if (users.get(i).getId() == null) {
+                    createdEntities.add(savedEntities.get(i));
+                }
+            }
+            outboxWriter.appendUsersCreated(createdEntities);
+        }
+        List<User> savedUsers = new ArrayList<>(savedEntities.size());
+        for (UserEntity savedEntity : savedEntities) {
+            recordWrite(savedEntity);
+            savedUsers.add(toDomain(savedEntity));
+        }
+        return savedUsers;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<User> findById(Long id) {
+        if (readYourWrites != null) {
+            return readYourWrites.read(id, () -> springDataRepository.findById(id)).map(this::toDomain);
+        }
         return springDataRepository.findById(id)
                 .map(this::toDomain);
     }
 
+    /**
+     * Loads the users in IN lists of at most {@link #IN_LIST_CHUNK_SIZE} IDs, which keeps each statement
+     * within database parameter limits and bounds the number of distinct query plans to cache.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findAllById(Collection<Long> ids) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (readYourWrites != null) {
+            return readYourWrites.readAll(distinctIds, () -> findAllByIdInChunks(distinctIds));
+        }
+        return findAllByIdInChunks(distinctIds);
+    }
+
+    private List<User> findAllByIdInChunks(List<Long> distinctIds) {
+        List<User> users = new ArrayList<>(distinctIds.size());
+        for (int from = 0; from < distinctIds.size(); from += IN_LIST_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, distinctIds.size()));
+            for (UserEntity entity : springDataRepository.findAllById(chunk)) {
+                users.add(toDomain(entity));
+            }
+        }
+        return users;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(EmailAddress email) {
+        if (readYourWrites != null) {
+            return readYourWrites.read(email.getValue(), () -> springDataRepository.findByEmail(email.getValue()))
+                    .map(this::toDomain);
+        }
+        return springDataRepository.findByEmail(email.getValue())
+                .map(this::toDomain);
+    }
+
     @Override
     public boolean existsByEmail(String email) {
         return springDataRepository.existsByEmail(email);
     }
 
-    private UserEntity toEntity(User user) {
+    @Override
+    public Set<String> existsByEmailIn(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return springDataRepository.findExistingEmails(emails);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachEmail(Consumer<String> action) {
+        try (Stream<String> emails = springDataRepository.streamAllEmails()) {
+            emails.forEach(action);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserSummary> findSummariesAfter(long afterId, int limit) {
+        return springDataRepository.findSummariesAfter(afterId, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachSummary(Consumer<UserSummary> action) {
+        try (Stream<UserSummary> summaries = springDataRepository.streamAllSummaries()) {
+            summaries.forEach(action);
+        }
+    }
+
+    private void recordWrite(UserEntity entity) {
+        if (readYourWrites != null) {
+            readYourWrites.recordWrite(entity.getId());
+            readYourWrites.recordWrite(entity.getEmail());
+        }
+    }
+
+    // Mapping methods are package-private for JpaUserRepositoryMappingBenchmark
+    UserEntity toEntity(User user) {
         UserEntity entity = new UserEntity(user.getName().getValue(), user.getEmail().getValue());
         if (user.getId() != null) {
             entity.setId(user.getId().getValue());
@@ -49,10 +196,9 @@ public class JpaUserRepository implements UserRepository {
         return entity;
     }
 
-    private User toDomain(UserEntity entity) {
-        Name name = new Name(entity.getName());
-        EmailAddress email = new EmailAddress(entity.getEmail());
-        User user = new User(name, email);
+    User toDomain(UserEntity entity) {
+        // Stored values were validated on the way in; rebuild them without validating again
+        User user = new User(valueObjectInterner.name(entity.getName()), valueObjectInterner.email(entity.getEmail()));
         user.setId(new UserId(entity.getId()));
         return user;
     }
@@ -0,0 +1,123 @@
+package com.example.hexagonalapp.infrastructure.adapter.out;
+
+import com.example.hexagonalapp.application.port.out.ReactiveUserRepository;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.UserId;
+import com.example.hexagonalapp.infrastructure.adapter.out.outbox.OutboxWriter;
+import com.example.hexagonalapp.infrastructure.persistence.intern.ValueObjectInterner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+
+/**
+ * R2DBC implementation of ReactiveUserRepository in the Infrastructure layer.
+ * Active with the {@code reactive} profile. Works on the tables created for the JPA entities:
+ * IDs come from the same users_seq (a raw sequence value is the low end of a pooled-lo block,
+ * so it never collides with IDs handed out by Hibernate) and created users get their outbox
+ * row in the same transaction, like JpaUserRepository does.
+ */
+@Repository
+@Profile("reactive")
+public class R2dbcUserRepository implements ReactiveUserRepository {
+    private static final String INSERT_USER =
+            "INSERT INTO users (id, name, email) VALUES (NEXT VALUE FOR users_seq, :name, :email)";
+    private static final String UPDATE_USER = "UPDATE users SET name = :name, email = :email WHERE id = :id";
+    private static final String INSERT_OUTBOX_EVENT =
+            "INSERT INTO outbox_events (id, event_type, aggregate_id, payload, created_at) "
+                    + "VALUES (NEXT VALUE FOR outbox_events_seq, :eventType, :aggregateId, :payload, :createdAt)";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final ObjectMapper objectMapper;
+    private final boolean outboxEnabled;
+    private final ValueObjectInterner valueObjectInterner;
+    private final Clock clock;
+
+    public R2dbcUserRepository(DatabaseClient databaseClient, TransactionalOperator transactionalOperator,
+                               ObjectMapper objectMapper, @Value("${app.outbox.enabled:false}") boolean outboxEnabled,
+                               ValueObjectInterner valueObjectInterner) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.objectMapper = objectMapper;
+        this.outboxEnabled = outboxEnabled;
+        this.valueObjectInterner = valueObjectInterner;
+        this.clock = Clock.systemUTC();
+    }
+
+    @Override
+    public Mono<User> save(User user) {
+        if (user.getId() != null) {
+            return databaseClient.sql(UPDATE_USER)
+                    .bind("name", user.getName().getValue())
+                    .bind("email", user.getEmail().getValue())
+                    .bind("id", user.getId().getValue())
+                    .then()
+                    .thenReturn(user)
+                    .onErrorMap(DataIntegrityViolationException.class, UniqueEmailViolation::translate);
+        }
+        String name = user.getName().getValue();
+        String email = user.getEmail().getValue();
+        Mono<User> insert = databaseClient.sql(INSERT_USER)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .bind("name", name)
+                .bind("email", email)
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .flatMap(id -> appendUserCreated(id, name, email).thenReturn(toDomain(id, name, email)));
+        // Same transaction as the insert: the event exists if and only if the user does
+        return (outboxEnabled ? transactionalOperator.transactional(insert) : insert)
+                .onErrorMap(DataIntegrityViolationException.class, UniqueEmailViolation::translate);
+    }
+
+    @Override
+    public Mono<User> findById(Long id) {
+        return databaseClient.sql("SELECT id, name, email FROM users WHERE id = :id")
+                .bind("id", id)
+                .map(this::toDomain)
+                .one();
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return databaseClient.sql("SELECT 1 FROM users WHERE email = :email FETCH FIRST 1 ROWS ONLY")
+                .bind("email", email)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .hasElement();
+    }
+
+    private Mono<Void> appendUserCreated(Long id, String name, String email) {
+        if (!outboxEnabled) {
+            return Mono.empty();
+        }
+        String payload = objectMapper.createObjectNode()
+                .put("userId", id)
+                .put("name", name)
+                .put("email", email)
+                .toString();
+        return databaseClient.sql(INSERT_OUTBOX_EVENT)
+                .bind("eventType", OutboxWriter.USER_CREATED)
+                .bind("aggregateId", id)
+                .bind("payload", payload)
+                .bind("createdAt", clock.instant())
+                .then();
+    }
+
+    private User toDomain(Readable row) {
+        return toDomain(row.get("id", Long.class), row.get("name", String.class), row.get("email", String.class));
+    }
+
+    private User toDomain(Long id, String name, String email) {
+        User user = new User(valueObjectInterner.name(name), valueObjectInterner.email(email));
+        user.setId(new UserId(id));
+        return user;
+    }
+}
@@ -1,9 +1,22 @@
 package com.example.hexagonalapp.infrastructure.adapter.out;
 
+import com.example.hexagonalapp.application.dto.UserSummary;
 import com.example.hexagonalapp.infrastructure.persistence.entity.UserEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
 /**
  * Spring Data JPA repository interface for UserEntity in the Infrastructure layer.
  * This interface provides basic CRUD operations and custom queries.
@@ -12,4 +25,25 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface SpringDataUserRepository extends JpaRepository<UserEntity, Long> {
     boolean existsByEmail(String email);
+
+    // Exact match on the unique email index (see db/migration); emails are stored normalized
+    Optional<UserEntity> findByEmail(String email);
+
+    @Query("select u.email from UserEntity u where u.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select u.email from UserEntity u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllEmails();
+
+    // Keyset page: seeks on the primary key index instead of skipping rows with OFFSET
+    @Query("select new com.example.hexagonalapp.application.dto.UserSummary(u.id, u.name, u.email) "
+            + "from UserEntity u where u.id > :afterId order by u.id")
+    List<UserSummary> findSummariesAfter(@Param("afterId") long afterId, Limit limit);
+
+    // Projections are not managed, so the persistence context does not grow while streaming
+    @Query("select new com.example.hexagonalapp.application.dto.UserSummary(u.id, u.name, u.email) "
+            + "from UserEntity u order by u.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<UserSummary> streamAllSummaries();
 }
\ No newline at end of file
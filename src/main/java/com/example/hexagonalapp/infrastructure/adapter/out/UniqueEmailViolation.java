@@ -0,0 +1,75 @@
+package com.example.hexagonalapp.infrastructure.adapter.out;
+
+import com.example.hexagonalapp.domain.model.domainexception.EmailAlreadyExistsException;
+import io.r2dbc.spi.R2dbcException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+/**
+ * Translates violations of the unique email index (ux_users_email, see db/migration) into the
+ * domain outcome for the persistence adapters, which insert without checking first and let
+ * the index decide. Other integrity violations are returned unchanged.
+ * <p>
+ * A unique violation is recognized by its SQLState, on JDBC and R2DBC alike. The violated index
+ * is then compared by name: the one Hibernate extracted on the JPA path, the one in the driver
+ * message on the R2DBC path. A primary key clash therefore stays an error instead of a conflict.
+ * Unique constraints on email from before the migrations are dropped by migration 3, so the
+ * index is the only one that can reject an email.
+ */
+final class UniqueEmailViolation {
+    static final String EMAIL_INDEX = "ux_users_email";
+    static final String UNIQUE_VIOLATION = "23505";
+
+    private UniqueEmailViolation() {
+    }
+
+    static RuntimeException translate(DataIntegrityViolationException e) {
+        return isEmailViolation(e) ? new EmailAlreadyExistsException() : e;
+    }
+
+    static boolean isEmailViolation(Throwable e) {
+        boolean uniqueViolation = false;
+        String constraintName = null;
+        String driverMessage = null;
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                constraintName = violation.getConstraintName();
+            }
+            if (UNIQUE_VIOLATION.equals(sqlState(cause))) {
+                uniqueViolation = true;
+                driverMessage = cause.getMessage();
+            }
+        }
+        if (!uniqueViolation) {
+            return false;
+        }
+        return EMAIL_INDEX.equalsIgnoreCase(indexName(constraintName != null ? constraintName : driverMessage));
+    }
+
+    private static String sqlState(Throwable cause) {
+        if (cause instanceof SQLException sqlException) {
+            return sqlException.getSQLState();
+        }
+        if (cause instanceof R2dbcException r2dbcException) {
+            return r2dbcException.getSqlState();
+        }
+        return null;
+    }
+
+    // H2 reports the index with schema, quotes, columns and values, in Hibernate's extracted name
+    // and in its messages alike: Unique index or primary key violation: "PUBLIC.UX_USERS_EMAIL ON ..."
+    static String indexName(String reported) {
+        if (reported == null) {
+            return null;
+        }
+        String name = reported;
+        int violation = name.indexOf("violation: ");
+        if (violation >= 0) {
+            name = name.substring(violation + "violation: ".length());
+        }
+        name = name.replace("\"", "").strip().split("\\s+")[0];
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+}
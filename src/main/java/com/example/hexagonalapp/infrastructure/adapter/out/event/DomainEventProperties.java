@@ -0,0 +1,28 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the in-process domain event bus ({@code app.events.*}).
+ */
+@ConfigurationProperties(prefix = "app.events")
+public class DomainEventProperties {
+    private int lanesPerSubscriber = 4;
+    private int laneCapacity = 4096;
+
+    public int getLanesPerSubscriber() {
+        return lanesPerSubscriber;
+    }
+
+    public void setLanesPerSubscriber(int lanesPerSubscriber) {
+        this.lanesPerSubscriber = lanesPerSubscriber;
+    }
+
+    public int getLaneCapacity() {
+        return laneCapacity;
+    }
+
+    public void setLaneCapacity(int laneCapacity) {
+        this.laneCapacity = laneCapacity;
+    }
+}
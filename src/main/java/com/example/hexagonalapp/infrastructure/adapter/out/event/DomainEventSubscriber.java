@@ -0,0 +1,20 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.event;
+
+import com.example.hexagonalapp.domain.model.domainevent.DomainEvent;
+
+/**
+ * Subscriber contract for the in-process domain event bus in the Infrastructure layer.
+ * Every Spring bean implementing this interface receives published events on its own
+ * threads; events of the same aggregate arrive in publication order.
+ */
+public interface DomainEventSubscriber {
+
+    void onEvent(DomainEvent event);
+
+    /**
+     * Filters the events this subscriber receives. Accepts every event by default.
+     */
+    default boolean accepts(DomainEvent event) {
+        return true;
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.event;
+
+import com.example.hexagonalapp.application.port.out.DomainEventPublisher;
+import com.example.hexagonalapp.domain.model.domainevent.DomainEvent;
+import com.example.hexagonalapp.infrastructure.adapter.config.WorkerThreadFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process implementation of the DomainEventPublisher port in the Infrastructure layer.
+ * Each subscriber gets its own executor with a fixed number of lanes. Each lane is a
+ * bounded ring buffer drained by a single thread. An event goes to the lane picked by its
+ * aggregate ID, which keeps per-aggregate ordering while different aggregates run in parallel.
+ * Publishing a single event never blocks: when a lane is full the event is dropped and counted.
+ * Batches wait for room instead. Published, dropped and failed events and the lane backlog
+ * are exported as meters.
+ */
+@Component
+@EnableConfigurationProperties(DomainEventProperties.class)
+public class InProcessDomainEventPublisher implements DomainEventPublisher, MeterBinder {
+    static final String PUBLISHED = "app.events.published";
+    static final String DROPPED = "app.events.dropped";
+    static final String FAILED = "app.events.failed";
+    static final String PENDING = "app.events.pending";
+
+    private static final Logger log = LoggerFactory.getLogger(InProcessDomainEventPublisher.class);
+
+    private final SubscriberChannel[] channels;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public InProcessDomainEventPublisher(List<DomainEventSubscriber> subscribers, DomainEventProperties properties,
+                                         WorkerThreadFactory workerThreadFactory) {
+        int lanes = Integer.highestOneBit(Math.max(1, properties.getLanesPerSubscriber() * 2 - 1));
+        this.channels = new SubscriberChannel[subscribers.size()];
+        for (int i = 0; i < channels.length; i++) {
+            DomainEventSubscriber subscriber = subscribers.get(i);
+            String threadPrefix = "events-" + subscriber.getClass().getSimpleName() + "-";
+            channels[i] = new SubscriberChannel(subscriber, lanes, properties.getLaneCapacity(),
+                    workerThreadFactory.create(threadPrefix));
+        }
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        published.increment();
+        int hash = laneHash(event);
+        for (SubscriberChannel channel : channels) {
+            if (channel.subscriber.accepts(event) && !channel.offer(event, hash)) {
+                dropped.increment();
+            }
+        }
+    }
+
+    /**
+     * Publishes a batch, waiting for room in full lanes instead of dropping, so a bulk import
+     * is paced by the slowest subscriber. Events are only dropped once the publisher shuts down
+     * or the calling thread is interrupted.
+     */
+    @Override
+    public void publishAll(List<? extends DomainEvent> events) {
+        for (DomainEvent event : events) {
+            published.increment();
+            int hash = laneHash(event);
+            for (SubscriberChannel channel : channels) {
+                if (channel.subscriber.accepts(event) && !channel.put(event, hash)) {
+                    dropped.increment();
+                }
+            }
+        }
+    }
+
+    public long publishedCount() {
+        return published.sum();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public long deliveredCount() {
+        long delivered = 0;
+        for (SubscriberChannel channel : channels) {
+            delivered += channel.delivered.sum();
+        }
+        return delivered;
+    }
+
+    public long failedCount() {
+        long failed = 0;
+        for (SubscriberChannel channel : channels) {
+            failed += channel.failed.sum();
+        }
+        return failed;
+    }
+
+    /**
+     * Events waiting in all lanes of all subscribers.
+     */
+    public int pendingCount() {
+        int pending = 0;
+        for (SubscriberChannel channel : channels) {
+            pending += channel.pendingCount();
+        }
+        return pending;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(PUBLISHED, this, InProcessDomainEventPublisher::publishedCount)
+                .description("Domain events handed to the publisher")
+                .register(registry);
+        FunctionCounter.builder(DROPPED, this, InProcessDomainEventPublisher::droppedCount)
+                .description("Deliveries dropped because a subscriber lane was full or shutting down")
+                .register(registry);
+        for (SubscriberChannel channel : channels) {
+            String subscriber = channel.subscriber.getClass().getSimpleName();
+            FunctionCounter.builder(FAILED, channel, c -> c.failed.sum())
+                    .tag("subscriber", subscriber)
+                    .description("Domain events a subscriber threw on")
+                    .register(registry);
+            Gauge.builder(PENDING, channel, SubscriberChannel::pendingCount)
+                    .tag("subscriber", subscriber)
+                    .description("Domain events waiting in the subscriber lanes")
+                    .register(registry);
+        }
+    }
+
+    private static int laneHash(DomainEvent event) {
+        Object aggregateId = event.getAggregateId();
+        int hash = aggregateId == null ? 0 : aggregateId.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (SubscriberChannel channel : channels) {
+            channel.running = false;
+            channel.executor.shutdown();
+        }
+        for (SubscriberChannel channel : channels) {
+            if (!channel.executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                channel.executor.shutdownNow();
+            }
+        }
+    }
+
+    private static final class SubscriberChannel {
+        private final DomainEventSubscriber subscriber;
+        private final List<BlockingQueue<DomainEvent>> lanes;
+        private final int mask;
+        private final ExecutorService executor;
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private volatile boolean running = true;
+
+        private SubscriberChannel(DomainEventSubscriber subscriber, int laneCount, int laneCapacity, ThreadFactory threadFactory) {
+            this.subscriber = subscriber;
+            this.lanes = new ArrayList<>(laneCount);
+            this.mask = laneCount - 1;
+            this.executor = Executors.newFixedThreadPool(laneCount, threadFactory);
+            for (int i = 0; i < laneCount; i++) {
+                BlockingQueue<DomainEvent> lane = new ArrayBlockingQueue<>(laneCapacity);
+                lanes.add(lane);
+                executor.execute(() -> drain(lane));
+            }
+        }
+
+        private boolean offer(DomainEvent event, int hash) {
+            return lanes.get(hash & mask).offer(event);
+        }
+
+        private boolean put(DomainEvent event, int hash) {
+            BlockingQueue<DomainEvent> lane = lanes.get(hash & mask);
+            try {
+                while (!lane.offer(event, 100, TimeUnit.MILLISECONDS)) {
+                    if (!running) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private int pendingCount() {
+            int pending = 0;
+            for (BlockingQueue<DomainEvent> lane : lanes) {
+                pending += lane.size();
+            }
+            return pending;
+        }
+
+        private void drain(BlockingQueue<DomainEvent> lane) {
+            while (running || !lane.isEmpty()) {
+                DomainEvent event;
+                try {
+                    event = lane.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (event == null) {
+                    continue;
+                }
+                try {
+                    subscriber.onEvent(event);
+                    delivered.increment();
+                } catch (RuntimeException e) {
+                    failed.increment();
+                    log.warn("Subscriber {} failed on {}", subscriber.getClass().getSimpleName(), event, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.event;
+
+import com.example.hexagonalapp.domain.model.domainevent.DomainEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Domain event subscriber that logs every event at debug level.
+ */
+@Component
+public class LoggingDomainEventSubscriber implements DomainEventSubscriber {
+    private static final Logger log = LoggerFactory.getLogger(LoggingDomainEventSubscriber.class);
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        log.debug("Domain event: {}", event);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.metrics;
+
+import com.example.hexagonalapp.application.service.CoalescingUserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Binds the statistics of the request-coalescing user lookups to Micrometer in the Infrastructure layer.
+ * A ratio near 0 means lookups rarely overlap and coalescing only adds the batch window to their latency.
+ */
+public class CoalescingMetrics implements MeterBinder {
+    static final String RATIO = "app.user.coalescing.ratio";
+    static final String LOOKUPS = "app.user.coalescing.lookups";
+    static final String QUERIES = "app.user.coalescing.queries";
+
+    private final CoalescingUserRepository repository;
+
+    public CoalescingMetrics(CoalescingUserRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(RATIO, repository, CoalescingUserRepository::coalescingRatio)
+                .description("Fraction of findById lookups that did not need a query of their own")
+                .register(registry);
+        FunctionCounter.builder(LOOKUPS, repository, CoalescingUserRepository::lookupCount)
+                .tag("result", "all")
+                .description("findById lookups")
+                .register(registry);
+        FunctionCounter.builder(LOOKUPS, repository, CoalescingUserRepository::coalescedLookupCount)
+                .tag("result", "coalesced")
+                .description("findById lookups that joined an in-flight lookup for the same ID")
+                .register(registry);
+        FunctionCounter.builder(QUERIES, repository, CoalescingUserRepository::queryCount)
+                .description("Queries issued to the wrapped repository")
+                .register(registry);
+    }
+}
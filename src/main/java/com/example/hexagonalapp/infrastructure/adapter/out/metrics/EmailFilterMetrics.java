@@ -0,0 +1,54 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.metrics;
+
+import com.example.hexagonalapp.application.service.BloomFilteredUserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds the health of the email uniqueness Bloom filter to Micrometer in the Infrastructure layer.
+ * An observed false positive rate drifting above the expected one means the filter is overfilled
+ * and should be rebuilt with a larger {@code expected-insertions}.
+ */
+public class EmailFilterMetrics implements MeterBinder {
+    static final String ENTRIES = "app.email.filter.entries";
+    static final String FALSE_POSITIVE_RATE = "app.email.filter.false.positive.rate";
+    static final String LOOKUPS = "app.email.filter.lookups";
+    static final String REBUILD_DURATION = "app.email.filter.rebuild.duration";
+
+    private final BloomFilteredUserRepository filter;
+
+    public EmailFilterMetrics(BloomFilteredUserRepository filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(ENTRIES, filter, BloomFilteredUserRepository::filterSize)
+                .description("Emails added to the current filter")
+                .register(registry);
+        Gauge.builder(FALSE_POSITIVE_RATE, filter, BloomFilteredUserRepository::expectedFalsePositiveRate)
+                .tag("kind", "expected")
+                .description("False positive rate expected at the current fill")
+                .register(registry);
+        Gauge.builder(FALSE_POSITIVE_RATE, filter, BloomFilteredUserRepository::observedFalsePositiveRate)
+                .tag("kind", "observed")
+                .description("Share of maybe-present answers the database reported as absent")
+                .register(registry);
+        FunctionCounter.builder(LOOKUPS, filter, BloomFilteredUserRepository::filteredLookupCount)
+                .tag("result", "filtered")
+                .description("Email lookups answered by the filter alone")
+                .register(registry);
+        FunctionCounter.builder(LOOKUPS, filter, BloomFilteredUserRepository::databaseLookupCount)
+                .tag("result", "database")
+                .description("Email lookups passed on to the database")
+                .register(registry);
+        TimeGauge.builder(REBUILD_DURATION, filter, TimeUnit.MILLISECONDS, BloomFilteredUserRepository::lastRebuildMillis)
+                .description("Duration of the last filter rebuild")
+                .register(registry);
+    }
+}
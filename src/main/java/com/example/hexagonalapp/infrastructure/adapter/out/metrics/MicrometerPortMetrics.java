@@ -0,0 +1,62 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.metrics;
+
+import com.example.hexagonalapp.application.port.out.PortMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer implementation of PortMetrics in the Infrastructure layer.
+ * Each port operation gets a {@value #CALLS} timer per outcome and a {@value #ERRORS} counter per
+ * exception type, all tagged with {@code port} and {@code operation}. Percentiles and histogram
+ * buckets are configured under {@code management.metrics.distribution.*} in application.yml.
+ */
+@Component
+public class MicrometerPortMetrics implements PortMetrics {
+    static final String CALLS = "app.port.calls";
+    static final String ERRORS = "app.port.errors";
+
+    private final MeterRegistry registry;
+
+    public MicrometerPortMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public OperationTimer timer(String port, String operation) {
+        // Both outcomes are registered up front so the hot path never looks meters up
+        Timer success = timer(port, operation, "success");
+        Timer error = timer(port, operation, "error");
+        return new OperationTimer() {
+            @Override
+            public void recordSuccess(long elapsedNanos) {
+                success.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void recordFailure(long elapsedNanos, Throwable failure) {
+                error.record(elapsedNanos, TimeUnit.NANOSECONDS);
+                // Failures are rare; the registry's own lookup is fine here
+                Counter.builder(ERRORS)
+                        .description("Failed port calls by exception type")
+                        .tag("port", port)
+                        .tag("operation", operation)
+                        .tag("exception", failure.getClass().getSimpleName())
+                        .register(registry)
+                        .increment();
+            }
+        };
+    }
+
+    private Timer timer(String port, String operation, String outcome) {
+        return Timer.builder(CALLS)
+                .description("Latency of input and output port calls")
+                .tag("port", port)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.metrics;
+
+import com.example.hexagonalapp.application.service.CachingUserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Binds the statistics of the user read-through cache to Micrometer in the Infrastructure layer.
+ * Registers the standard {@code cache.*} meters with {@code cache=users}, plus {@value #EXPIRATIONS}
+ * for entries dropped by TTL, which {@code cache.evictions} (size-based only) does not include.
+ */
+public class UserCacheMetrics extends CacheMeterBinder<CachingUserRepository> {
+    static final String CACHE_NAME = "users";
+    static final String EXPIRATIONS = "cache.expirations";
+
+    public UserCacheMetrics(CachingUserRepository cache) {
+        super(cache, CACHE_NAME, Tags.empty());
+    }
+
+    @Override
+    protected Long size() {
+        CachingUserRepository cache = getCache();
+        return cache != null ? (long) cache.size() : null;
+    }
+
+    @Override
+    protected long hitCount() {
+        CachingUserRepository cache = getCache();
+        return cache != null ? cache.hitCount() : 0;
+    }
+
+    @Override
+    protected Long missCount() {
+        CachingUserRepository cache = getCache();
+        return cache != null ? cache.missCount() : null;
+    }
+
+    @Override
+    protected Long evictionCount() {
+        CachingUserRepository cache = getCache();
+        return cache != null ? cache.evictionCount() : null;
+    }
+
+    @Override
+    protected long putCount() {
+        CachingUserRepository cache = getCache();
+        return cache != null ? cache.putCount() : 0;
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        FunctionCounter.builder(EXPIRATIONS, getCache(), CachingUserRepository::expirationCount)
+                .tags(getTagsWithCacheName())
+                .description("The number of entries dropped because their time-to-live passed")
+                .register(registry);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.metrics;
+
+import com.example.hexagonalapp.application.service.BloomFilteredUserRepository;
+import com.example.hexagonalapp.application.service.CachingUserRepository;
+import com.example.hexagonalapp.application.service.CoalescingUserRepository;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Configuration class for the metrics of the UserRepository decorators in the Infrastructure layer.
+ * Each binder registers its meters only when the decorator is enabled in configuration.
+ */
+@Configuration
+public class UserRepositoryMetricsConfig {
+
+    @Bean
+    public MeterBinder userCacheMetrics(ObjectProvider<CachingUserRepository> cache) {
+        return registry -> cache.ifAvailable(caching -> new UserCacheMetrics(caching).bindTo(registry));
+    }
+
+    @Bean
+    public MeterBinder emailFilterMetrics(ObjectProvider<BloomFilteredUserRepository> filter) {
+        return registry -> filter.ifAvailable(filtered -> new EmailFilterMetrics(filtered).bindTo(registry));
+    }
+
+    @Bean
+    public MeterBinder coalescingMetrics(ObjectProvider<CoalescingUserRepository> coalescing) {
+        return registry -> coalescing.ifAvailable(repository -> new CoalescingMetrics(repository).bindTo(registry));
+    }
+}
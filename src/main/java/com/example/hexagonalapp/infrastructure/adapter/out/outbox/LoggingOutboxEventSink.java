@@ -0,0 +1,21 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Default OutboxEventSink that writes relayed messages to the application log.
+ * Stands in for a real broker until one is configured.
+ */
+public class LoggingOutboxEventSink implements OutboxEventSink {
+    private static final Logger log = LoggerFactory.getLogger(LoggingOutboxEventSink.class);
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        for (OutboxMessage message : batch) {
+            log.info("Relayed {}", message);
+        }
+    }
+}
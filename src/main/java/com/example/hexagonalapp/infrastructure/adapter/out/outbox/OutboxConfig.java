@@ -0,0 +1,43 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+/**
+ * Spring Configuration class for the transactional outbox in the Infrastructure layer.
+ * Active when {@code app.outbox.enabled=true}. Declare an OutboxEventSink bean to replace
+ * the logging sink.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true")
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    public OutboxWriter outboxWriter(SpringDataOutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        return new OutboxWriter(outboxRepository, objectMapper, Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxEventSink outboxEventSink() {
+        return new LoggingOutboxEventSink();
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(SpringDataOutboxRepository outboxRepository, PlatformTransactionManager transactionManager,
+                                   OutboxEventSink outboxEventSink, OutboxProperties properties) {
+        return new OutboxRelay(outboxRepository, new TransactionTemplate(transactionManager), outboxEventSink,
+                properties, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of relayed outbox messages, e.g. a message broker.
+ * A batch counts as delivered only if this method returns normally; throwing leaves the
+ * whole batch pending so it is retried on the next poll (at-least-once delivery).
+ */
+public interface OutboxEventSink {
+    void publish(List<OutboxMessage> batch);
+}
@@ -0,0 +1,52 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.outbox;
+
+import java.time.Instant;
+
+/**
+ * Immutable view of an outbox row handed to an OutboxEventSink.
+ */
+public class OutboxMessage {
+    private final Long id;
+    private final String eventType;
+    private final Long aggregateId;
+    private final String payload;
+    private final Instant createdAt;
+
+    public OutboxMessage(Long id, String eventType, Long aggregateId, String payload, Instant createdAt) {
+        this.id = id;
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxMessage{" +
+                "id=" + id +
+                ", eventType='" + eventType + '\'' +
+                ", aggregateId=" + aggregateId +
+                ", payload=" + payload +
+                '}';
+    }
+}
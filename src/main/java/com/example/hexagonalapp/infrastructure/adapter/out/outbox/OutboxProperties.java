@@ -0,0 +1,75 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the transactional outbox and its relay ({@code app.outbox.*}).
+ */
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+    private boolean enabled = false;
+    private int batchSize = 500;
+    private long pollIntervalMillis = 500;
+    private int maxBatchesPerPoll = 10;
+    private Duration retention = Duration.ofDays(7);
+    private long purgeIntervalMillis = 60_000;
+    private int purgeBatchSize = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getPollIntervalMillis() {
+        return pollIntervalMillis;
+    }
+
+    public void setPollIntervalMillis(long pollIntervalMillis) {
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    public int getMaxBatchesPerPoll() {
+        return maxBatchesPerPoll;
+    }
+
+    public void setMaxBatchesPerPoll(int maxBatchesPerPoll) {
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public long getPurgeIntervalMillis() {
+        return purgeIntervalMillis;
+    }
+
+    public void setPurgeIntervalMillis(long purgeIntervalMillis) {
+        this.purgeIntervalMillis = purgeIntervalMillis;
+    }
+
+    public int getPurgeBatchSize() {
+        return purgeBatchSize;
+    }
+
+    public void setPurgeBatchSize(int purgeBatchSize) {
+        this.purgeBatchSize = purgeBatchSize;
+    }
+}
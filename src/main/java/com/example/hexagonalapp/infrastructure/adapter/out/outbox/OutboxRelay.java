@@ -0,0 +1,161 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.outbox;
+
+import com.example.hexagonalapp.infrastructure.persistence.entity.OutboxEventEntity;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Background relay of the transactional outbox in the Infrastructure layer.
+ * Each poll locks batches of pending rows, hands them to the sink and marks them delivered
+ * with one bulk update, all in one transaction per batch. Keeps polling while batches come
+ * back full, up to {@code max-batches-per-poll}.
+ * Delivered rows are deleted in batches once they are older than {@code retention}, so the
+ * table only holds pending events and a bounded delivery history.
+ * Relay lag, the last batch size and the relayed and purged counts are exported as
+ * {@code app.outbox.*} meters.
+ */
+public class OutboxRelay implements MeterBinder {
+    static final String LAG = "app.outbox.lag";
+    static final String LAST_BATCH_SIZE = "app.outbox.last.batch.size";
+    static final String EVENTS = "app.outbox.events";
+
+    private final SpringDataOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxEventSink sink;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration retention;
+    private final int purgeBatchSize;
+    private final Clock clock;
+
+    private final LongAdder relayed = new LongAdder();
+    private final LongAdder purged = new LongAdder();
+    private volatile int lastBatchSize;
+    private volatile long lagMillis;
+
+    public OutboxRelay(SpringDataOutboxRepository outboxRepository, TransactionTemplate transactionTemplate,
+                       OutboxEventSink sink, OutboxProperties properties, Clock clock) {
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.sink = sink;
+        this.batchSize = properties.getBatchSize();
+        this.maxBatchesPerPoll = properties.getMaxBatchesPerPoll();
+        this.retention = properties.getRetention();
+        this.purgeBatchSize = properties.getPurgeBatchSize();
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-millis:500}")
+    public void poll() {
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            if (relayBatch() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Relays one batch of pending rows.
+     * @return the number of rows delivered
+     */
+    public int relayBatch() {
+        Integer delivered = transactionTemplate.execute(status -> {
+            List<OutboxEventEntity> batch = outboxRepository.lockPendingBatch(PageRequest.of(0, batchSize));
+            Instant now = clock.instant();
+            if (batch.isEmpty()) {
+                lagMillis = 0;
+                return 0;
+            }
+            // Rows come oldest first, so the first one tells how far behind the relay is
+            lagMillis = Math.max(0, Duration.between(batch.get(0).getCreatedAt(), now).toMillis());
+            List<OutboxMessage> messages = new ArrayList<>(batch.size());
+            List<Long> ids = new ArrayList<>(batch.size());
+            for (OutboxEventEntity event : batch) {
+                messages.add(new OutboxMessage(event.getId(), event.getEventType(), event.getAggregateId(),
+                        event.getPayload(), event.getCreatedAt()));
+                ids.add(event.getId());
+            }
+            sink.publish(messages);
+            outboxRepository.markDelivered(ids, now);
+            return batch.size();
+        });
+        int count = delivered == null ? 0 : delivered;
+        lastBatchSize = count;
+        relayed.add(count);
+        return count;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval-millis:60000}")
+    public void purge() {
+        int deleted;
+        do {
+            deleted = purgeBatch();
+        } while (deleted == purgeBatchSize);
+    }
+
+    /**
+     * Deletes one batch of rows delivered more than {@code retention} ago, in its own transaction.
+     * @return the number of rows deleted
+     */
+    public int purgeBatch() {
+        Instant cutoff = clock.instant().minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> ids = outboxRepository.findDeliveredBefore(cutoff, PageRequest.of(0, purgeBatchSize));
+            return ids.isEmpty() ? 0 : outboxRepository.deleteByIds(ids);
+        });
+        int count = deleted == null ? 0 : deleted;
+        purged.add(count);
+        return count;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder(LAG, this, TimeUnit.MILLISECONDS, OutboxRelay::lagMillis)
+                .description("Age of the oldest pending outbox event seen by the last poll")
+                .register(registry);
+        Gauge.builder(LAST_BATCH_SIZE, this, OutboxRelay::lastBatchSize)
+                .description("Events delivered by the last relay batch")
+                .register(registry);
+        FunctionCounter.builder(EVENTS, this, OutboxRelay::relayedCount)
+                .tag("outcome", "relayed")
+                .description("Outbox events handed to the sink")
+                .register(registry);
+        FunctionCounter.builder(EVENTS, this, OutboxRelay::purgedCount)
+                .tag("outcome", "purged")
+                .description("Delivered outbox events deleted after the retention period")
+                .register(registry);
+    }
+
+    public int lastBatchSize() {
+        return lastBatchSize;
+    }
+
+    /**
+     * Age of the oldest pending row seen by the last poll, in milliseconds.
+     */
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    public long relayedCount() {
+        return relayed.sum();
+    }
+
+    public long purgedCount() {
+        return purged.sum();
+    }
+}
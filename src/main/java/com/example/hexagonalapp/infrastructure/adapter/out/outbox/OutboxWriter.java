@@ -0,0 +1,55 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.outbox;
+
+import com.example.hexagonalapp.infrastructure.persistence.entity.OutboxEventEntity;
+import com.example.hexagonalapp.infrastructure.persistence.entity.UserEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends outbox rows for user changes in the Infrastructure layer.
+ * Must run inside the transaction that persists the user, so the row and the event
+ * are committed or rolled back together.
+ */
+public class OutboxWriter {
+    public static final String USER_CREATED = "UserCreated";
+
+    private final SpringDataOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public OutboxWriter(SpringDataOutboxRepository outboxRepository, ObjectMapper objectMapper, Clock clock) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendUserCreated(UserEntity user) {
+        outboxRepository.save(userCreated(user, clock.instant()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendUsersCreated(List<UserEntity> users) {
+        Instant now = clock.instant();
+        List<OutboxEventEntity> events = new ArrayList<>(users.size());
+        for (UserEntity user : users) {
+            events.add(userCreated(user, now));
+        }
+        outboxRepository.saveAll(events);
+    }
+
+    private OutboxEventEntity userCreated(UserEntity user, Instant createdAt) {
+        String payload = objectMapper.createObjectNode()
+                .put("userId", user.getId())
+                .put("name", user.getName())
+                .put("email", user.getEmail())
+                .toString();
+        return new OutboxEventEntity(USER_CREATED, user.getId(), payload, createdAt);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.outbox;
+
+import com.example.hexagonalapp.infrastructure.persistence.entity.OutboxEventEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository interface for OutboxEventEntity in the Infrastructure layer.
+ */
+@Repository
+public interface SpringDataOutboxRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * Locks the oldest pending rows. The lock timeout hint -2 asks for SKIP LOCKED, so concurrent
+     * relays take disjoint batches; dialects without SKIP LOCKED fall back to a plain FOR UPDATE.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEventEntity e where e.deliveredAt is null order by e.id")
+    List<OutboxEventEntity> lockPendingBatch(Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OutboxEventEntity e set e.deliveredAt = :deliveredAt where e.id in :ids")
+    int markDelivered(@Param("ids") Collection<Long> ids, @Param("deliveredAt") Instant deliveredAt);
+
+    /**
+     * IDs of rows delivered before the cutoff, oldest first; a range scan of ix_outbox_events_pending,
+     * which pending rows (delivered_at null) are not part of.
+     */
+    @Query("select e.id from OutboxEventEntity e where e.deliveredAt < :cutoff order by e.deliveredAt")
+    List<Long> findDeliveredBefore(@Param("cutoff") Instant cutoff, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from OutboxEventEntity e where e.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,86 @@
+package com.example.hexagonalapp.infrastructure.persistence.config;
+
+import com.example.hexagonalapp.infrastructure.persistence.id.PooledLoSequenceGenerator;
+import com.example.hexagonalapp.infrastructure.persistence.id.UserIdSequenceAligner;
+import com.example.hexagonalapp.infrastructure.persistence.intern.ValueObjectInterner;
+import com.example.hexagonalapp.infrastructure.persistence.migration.SchemaIndexVerifier;
+import com.example.hexagonalapp.infrastructure.persistence.migration.SchemaIndexVerifier.ExpectedIndex;
+import com.example.hexagonalapp.infrastructure.persistence.migration.DropLegacyEmailConstraints;
+import com.example.hexagonalapp.infrastructure.persistence.migration.SchemaMigrator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Spring Configuration class for persistence concerns in the Infrastructure layer.
+ * Passes the user and outbox ID allocation sizes to Hibernate, registers the optional
+ * IDENTITY-to-sequence migration step and the value object interner used when mapping rows.
+ * Schema migrations, the index check and the sequence alignment run before the
+ * EntityManagerFactory is created.
+ */
+@Configuration
+public class PersistenceConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.persistence.migration", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SchemaMigrator schemaMigrator(DataSource dataSource, ResourcePatternResolver resourceResolver,
+            @Value("${app.persistence.migration.location:classpath:db/migration}") String location) {
+        return new SchemaMigrator(dataSource, resourceResolver, location, List.of(new DropLegacyEmailConstraints()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.persistence.migration", name = "verify-indexes", havingValue = "true", matchIfMissing = true)
+    public SchemaIndexVerifier schemaIndexVerifier(DataSource dataSource, ObjectProvider<SchemaMigrator> schemaMigrator) {
+        // Resolving the migrator first makes the check run against the migrated schema
+        schemaMigrator.ifAvailable(migrator -> { });
+        return new SchemaIndexVerifier(dataSource, List.of(
+                ExpectedIndex.unique("users", "email"),
+                ExpectedIndex.of("outbox_events", "delivered_at", "id")));
+    }
+
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor entityManagerFactoryDependsOnSchema() {
+        return new SchemaDependsOnPostProcessor();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer idAllocationSizeCustomizer(
+            @Value("${app.persistence.user-id.allocation-size:" + PooledLoSequenceGenerator.DEFAULT_ALLOCATION_SIZE + "}") int userIdAllocationSize,
+            @Value("${app.persistence.outbox-id.allocation-size:" + PooledLoSequenceGenerator.DEFAULT_ALLOCATION_SIZE + "}") int outboxIdAllocationSize) {
+        return properties -> {
+            properties.put(PooledLoSequenceGenerator.ALLOCATION_SIZE_SETTING, userIdAllocationSize);
+            properties.put(PooledLoSequenceGenerator.OUTBOX_ALLOCATION_SIZE_SETTING, outboxIdAllocationSize);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.persistence.user-id", name = "align-sequence-on-startup", havingValue = "true")
+    public UserIdSequenceAligner userIdSequenceAligner(JdbcTemplate jdbcTemplate, ObjectProvider<SchemaMigrator> schemaMigrator,
+            @Value("${app.persistence.user-id.allocation-size:" + PooledLoSequenceGenerator.DEFAULT_ALLOCATION_SIZE + "}") int allocationSize) {
+        // The sequence is created by the migrations, so align it only once they have run
+        schemaMigrator.ifAvailable(migrator -> { });
+        return new UserIdSequenceAligner(jdbcTemplate, allocationSize);
+    }
+
+    @Bean
+    public ValueObjectInterner valueObjectInterner(
+            @Value("${app.persistence.value-interning.enabled:false}") boolean enabled,
+            @Value("${app.persistence.value-interning.capacity:4096}") int capacity) {
+        return new ValueObjectInterner(enabled ? capacity : 0);
+    }
+
+    private static final class SchemaDependsOnPostProcessor extends EntityManagerFactoryDependsOnPostProcessor {
+        SchemaDependsOnPostProcessor() {
+            super(SchemaMigrator.class, SchemaIndexVerifier.class, UserIdSequenceAligner.class);
+        }
+    }
+}
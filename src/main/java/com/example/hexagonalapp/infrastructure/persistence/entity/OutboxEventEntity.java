@@ -0,0 +1,81 @@
+package com.example.hexagonalapp.infrastructure.persistence.entity;
+
+import com.example.hexagonalapp.infrastructure.persistence.id.PooledLoSequenceGenerator;
+import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import java.time.Instant;
+
+/**
+ * JPA Entity for the transactional outbox in the Infrastructure layer.
+ * A row is written in the same transaction as the change it describes and is marked
+ * as delivered once the relay has handed it to the configured sink.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = @Index(name = "ix_outbox_events_pending", columnList = "delivered_at, id"))
+public class OutboxEventEntity {
+    @Id
+    @GeneratedValue(generator = "outbox_events_seq")
+    @GenericGenerator(name = "outbox_events_seq", type = PooledLoSequenceGenerator.class,
+            parameters = {
+                    @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "outbox_events_seq"),
+                    @Parameter(name = PooledLoSequenceGenerator.ALLOCATION_SIZE_SETTING_PARAM,
+                            value = PooledLoSequenceGenerator.OUTBOX_ALLOCATION_SIZE_SETTING)
+            })
+    private Long id;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "delivered_at")
+    private Instant deliveredAt;
+
+    // Default constructor for JPA
+    protected OutboxEventEntity() {}
+
+    public OutboxEventEntity(String eventType, Long aggregateId, String payload, Instant createdAt) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getDeliveredAt() {
+        return deliveredAt;
+    }
+
+    public void setDeliveredAt(Instant deliveredAt) {
+        this.deliveredAt = deliveredAt;
+    }
+}
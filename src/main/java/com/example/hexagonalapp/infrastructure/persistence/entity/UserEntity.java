@@ -1,6 +1,10 @@
 package com.example.hexagonalapp.infrastructure.persistence.entity;
 
+import com.example.hexagonalapp.infrastructure.persistence.id.PooledLoSequenceGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 /**
  * JPA Entity for User persistence in the Infrastructure layer.
@@ -11,13 +15,16 @@ import jakarta.persistence.*;
 @Table(name = "users")
 public class UserEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "users_seq")
+    @GenericGenerator(name = "users_seq", type = PooledLoSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "users_seq"))
     private Long id;
 
     @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false, unique = true)
+    // Unique through the ux_users_email index of the migrations, not a JPA constraint
+    @Column(nullable = false)
     private String email;
 
     // Default constructor for JPA
@@ -0,0 +1,40 @@
+package com.example.hexagonalapp.infrastructure.persistence.id;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Sequence-backed identifier generator for the Infrastructure persistence layer.
+ * Uses the pooled-lo optimizer: each sequence call reserves a block of IDs starting at the
+ * returned value, so one DB round trip serves {@code allocation-size} inserts.
+ * The block size is read from the Hibernate setting named by the {@value #ALLOCATION_SIZE_SETTING_PARAM}
+ * generator parameter, {@value #ALLOCATION_SIZE_SETTING} by default, so each sequence can have its own.
+ */
+public class PooledLoSequenceGenerator extends SequenceStyleGenerator {
+    public static final String ALLOCATION_SIZE_SETTING = "app.persistence.user-id.allocation-size";
+    public static final String OUTBOX_ALLOCATION_SIZE_SETTING = "app.persistence.outbox-id.allocation-size";
+    public static final String ALLOCATION_SIZE_SETTING_PARAM = "allocation_size_setting";
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        String setting = parameters.getProperty(ALLOCATION_SIZE_SETTING_PARAM, ALLOCATION_SIZE_SETTING);
+        int allocationSize = serviceRegistry.requireService(ConfigurationService.class)
+                .getSetting(setting, StandardConverters.INTEGER, DEFAULT_ALLOCATION_SIZE);
+        if (allocationSize < 1) {
+            throw new MappingException("Allocation size must be positive: " + allocationSize);
+        }
+        // IDs start at the sequence's initial value (1), which keeps UserId's positive invariant
+        parameters.put(INCREMENT_PARAM, String.valueOf(allocationSize));
+        parameters.put(INITIAL_PARAM, "1");
+        parameters.put(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
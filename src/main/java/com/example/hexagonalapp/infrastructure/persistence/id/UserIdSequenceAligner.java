@@ -0,0 +1,41 @@
+package com.example.hexagonalapp.infrastructure.persistence.id;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * One-off migration step for the Infrastructure persistence layer.
+ * Moves databases whose {@code users} rows were created with IDENTITY keys onto the
+ * {@code users_seq} sequence by (re)starting it right after the highest existing ID, with
+ * the configured allocation size as its increment. Runs after the migrations and before the
+ * EntityManagerFactory is created, so no insert can take an ID from the old sequence state.
+ * Run it once with all application instances stopped, since restarting the sequence
+ * invalidates ID blocks already reserved by running instances.
+ */
+public class UserIdSequenceAligner implements InitializingBean {
+    private final JdbcTemplate jdbcTemplate;
+    private final int allocationSize;
+
+    public UserIdSequenceAligner(JdbcTemplate jdbcTemplate, int allocationSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.allocationSize = allocationSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        align();
+    }
+
+    /**
+     * Creates or restarts the sequence so the next reserved block starts after the current maximum ID.
+     * The increment is reset as well: pooled-lo hands out {@code allocationSize} IDs per sequence value,
+     * so any other increment would make blocks overlap.
+     * @return the value the sequence was restarted with
+     */
+    public long align() {
+        Long next = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM users", Long.class);
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS users_seq START WITH " + next + " INCREMENT BY " + allocationSize);
+        jdbcTemplate.execute("ALTER SEQUENCE users_seq RESTART WITH " + next + " INCREMENT BY " + allocationSize);
+        return next;
+    }
+}
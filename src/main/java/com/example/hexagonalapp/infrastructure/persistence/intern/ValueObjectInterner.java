@@ -0,0 +1,117 @@
+package com.example.hexagonalapp.infrastructure.persistence.intern;
+
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.Name;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reconstitutes value objects read from persistence in the Infrastructure layer.
+ * Values coming from the database were validated when they were written, so they are rebuilt
+ * through the trusted factories. With a capacity above zero, recently seen instances are also
+ * reused: each kind has a direct-mapped table indexed by the value's hash, where a colliding
+ * value simply replaces the previous one. Memory stays bounded, lookups take no lock, and
+ * repeated reads of hot users stop allocating new value objects.
+ * Slots are written without synchronization on purpose: the value objects are immutable with
+ * final fields, so a racing reader sees either a complete instance or a miss.
+ * When enabled, hits and misses are exported as {@value #LOOKUPS} counters.
+ */
+public class ValueObjectInterner implements MeterBinder {
+    static final String LOOKUPS = "app.persistence.interning.lookups";
+
+    private final EmailAddress[] emails;
+    private final Name[] names;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param capacity slots per value type, rounded up to a power of two; 0 disables interning
+     */
+    public ValueObjectInterner(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative");
+        }
+        if (capacity == 0) {
+            this.emails = null;
+            this.names = null;
+            this.mask = 0;
+        } else {
+            int size = Integer.highestOneBit(Math.max(1, capacity * 2 - 1));
+            this.emails = new EmailAddress[size];
+            this.names = new Name[size];
+            this.mask = size - 1;
+        }
+    }
+
+    public EmailAddress email(String normalizedValue) {
+        if (emails == null) {
+            return EmailAddress.ofTrusted(normalizedValue);
+        }
+        int slot = slot(normalizedValue);
+        EmailAddress cached = emails[slot];
+        if (cached != null && cached.getValue().equals(normalizedValue)) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        EmailAddress created = EmailAddress.ofTrusted(normalizedValue);
+        emails[slot] = created;
+        return created;
+    }
+
+    public Name name(String trimmedValue) {
+        if (names == null) {
+            return Name.ofTrusted(trimmedValue);
+        }
+        int slot = slot(trimmedValue);
+        Name cached = names[slot];
+        if (cached != null && cached.getValue().equals(trimmedValue)) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        Name created = Name.ofTrusted(trimmedValue);
+        names[slot] = created;
+        return created;
+    }
+
+    public boolean isEnabled() {
+        return emails != null;
+    }
+
+    public int capacity() {
+        return emails == null ? 0 : emails.length;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!isEnabled()) {
+            return;
+        }
+        FunctionCounter.builder(LOOKUPS, this, ValueObjectInterner::hitCount)
+                .tag("result", "hit")
+                .description("Value objects served from the interning tables")
+                .register(registry);
+        FunctionCounter.builder(LOOKUPS, this, ValueObjectInterner::missCount)
+                .tag("result", "miss")
+                .description("Value objects created because no interned instance matched")
+                .register(registry);
+    }
+
+    private int slot(String value) {
+        int hash = value.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.hexagonalapp.infrastructure.persistence.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Migration 3: drops unique constraints on {@code users(email)} left over from before migrations
+ * owned the schema, so {@code ux_users_email} (V2) is the only uniqueness check on email.
+ * Hibernate's {@code ddl-auto} created one with a database-generated name (CONSTRAINT_4 on H2),
+ * and the former db/schema.sql one named ux_users_email. Both are adopted unchanged by V1's
+ * {@code CREATE TABLE IF NOT EXISTS}, and a duplicate caught by them instead of the index would
+ * not be recognized as an email conflict. The V2 unique index is not a constraint, so it stays.
+ */
+public class DropLegacyEmailConstraints implements JavaMigration {
+    private static final String UNIQUE_CONSTRAINT_COLUMNS = "SELECT tc.constraint_name, k.column_name"
+            + " FROM information_schema.table_constraints tc"
+            + " JOIN information_schema.key_column_usage k ON k.constraint_schema = tc.constraint_schema"
+            + " AND k.constraint_name = tc.constraint_name AND k.table_name = tc.table_name"
+            + " WHERE tc.constraint_type = 'UNIQUE' AND LOWER(tc.table_name) = 'users' AND tc.table_schema = ?";
+
+    @Override
+    public int version() {
+        return 3;
+    }
+
+    @Override
+    public String description() {
+        return "drop_legacy_email_constraints";
+    }
+
+    @Override
+    public void migrate(Connection connection) throws SQLException {
+        String quote = connection.getMetaData().getIdentifierQuoteString().trim();
+        try (Statement statement = connection.createStatement()) {
+            for (String constraint : emailOnlyConstraints(connection)) {
+                statement.execute("ALTER TABLE users DROP CONSTRAINT " + quote + constraint + quote);
+            }
+        }
+    }
+
+    private static List<String> emailOnlyConstraints(Connection connection) throws SQLException {
+        Map<String, List<String>> columnsByConstraint = new LinkedHashMap<>();
+        try (PreparedStatement query = connection.prepareStatement(UNIQUE_CONSTRAINT_COLUMNS)) {
+            query.setString(1, connection.getSchema());
+            try (ResultSet rows = query.executeQuery()) {
+                while (rows.next()) {
+                    columnsByConstraint.computeIfAbsent(rows.getString(1), name -> new ArrayList<>())
+                            .add(rows.getString(2).toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        List<String> constraints = new ArrayList<>();
+        columnsByConstraint.forEach((name, columns) -> {
+            if (columns.equals(List.of("email"))) {
+                constraints.add(name);
+            }
+        });
+        return constraints;
+    }
+}
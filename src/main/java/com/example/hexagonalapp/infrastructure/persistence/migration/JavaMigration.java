@@ -0,0 +1,20 @@
+package com.example.hexagonalapp.infrastructure.persistence.migration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A schema migration written in Java for the Infrastructure persistence layer, for changes that
+ * plain DDL cannot express portably, such as dropping a constraint whose name the database chose.
+ * Versions share one sequence with the SQL scripts and are recorded in the same history.
+ */
+public interface JavaMigration {
+    int version();
+
+    /**
+     * Recorded in the history like the description part of a script name.
+     */
+    String description();
+
+    void migrate(Connection connection) throws SQLException;
+}
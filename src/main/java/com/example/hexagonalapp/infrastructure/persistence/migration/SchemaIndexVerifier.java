@@ -0,0 +1,110 @@
+package com.example.hexagonalapp.infrastructure.persistence.migration;
+
+import org.springframework.beans.factory.InitializingBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Startup check of the Infrastructure persistence layer: fails startup when an index the
+ * queries rely on is missing, instead of letting those lookups silently become table scans.
+ * An index matches when it starts with the expected columns in order (and is unique if
+ * required); its name does not matter.
+ */
+public class SchemaIndexVerifier implements InitializingBean {
+    private final DataSource dataSource;
+    private final List<ExpectedIndex> expectedIndexes;
+
+    public SchemaIndexVerifier(DataSource dataSource, List<ExpectedIndex> expectedIndexes) {
+        this.dataSource = dataSource;
+        this.expectedIndexes = List.copyOf(expectedIndexes);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        verify();
+    }
+
+    /**
+     * @throws IllegalStateException listing every expected index that is missing
+     */
+    public void verify() {
+        List<String> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (ExpectedIndex expected : expectedIndexes) {
+                if (!exists(metaData, expected)) {
+                    missing.add(expected.toString());
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot read index metadata", e);
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing database indexes: " + String.join(", ", missing));
+        }
+    }
+
+    private static boolean exists(DatabaseMetaData metaData, ExpectedIndex expected) throws SQLException {
+        String table = metaData.storesUpperCaseIdentifiers() ? expected.table().toUpperCase(Locale.ROOT) : expected.table();
+        // Index name -> columns by ordinal position
+        Map<String, Map<Short, String>> indexes = new TreeMap<>();
+        Map<String, Boolean> unique = new TreeMap<>();
+        try (ResultSet rows = metaData.getIndexInfo(null, null, table, false, false)) {
+            while (rows.next()) {
+                String indexName = rows.getString("INDEX_NAME");
+                String column = rows.getString("COLUMN_NAME");
+                if (indexName == null || column == null) {
+                    continue;
+                }
+                indexes.computeIfAbsent(indexName, name -> new TreeMap<>()).put(rows.getShort("ORDINAL_POSITION"), column);
+                unique.put(indexName, !rows.getBoolean("NON_UNIQUE"));
+            }
+        }
+        for (Map.Entry<String, Map<Short, String>> index : indexes.entrySet()) {
+            if (expected.unique() && !unique.get(index.getKey())) {
+                continue;
+            }
+            List<String> columns = new ArrayList<>(index.getValue().values());
+            if (startsWith(columns, expected.columns())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWith(List<String> columns, List<String> prefix) {
+        if (columns.size() < prefix.size()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.size(); i++) {
+            if (!columns.get(i).equalsIgnoreCase(prefix.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public record ExpectedIndex(String table, List<String> columns, boolean unique) {
+        public static ExpectedIndex of(String table, String... columns) {
+            return new ExpectedIndex(table, List.of(columns), false);
+        }
+
+        public static ExpectedIndex unique(String table, String... columns) {
+            return new ExpectedIndex(table, List.of(columns), true);
+        }
+
+        @Override
+        public String toString() {
+            return (unique ? "unique " : "") + table + "(" + String.join(", ", columns) + ")";
+        }
+    }
+}
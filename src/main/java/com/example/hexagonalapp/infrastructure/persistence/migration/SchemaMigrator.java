@@ -0,0 +1,248 @@
+package com.example.hexagonalapp.infrastructure.persistence.migration;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.util.StreamUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Versioned schema migrations for the Infrastructure persistence layer.
+ * Applies the {@code V<version>__<description>.sql} scripts found at the configured location
+ * in version order, each exactly once, and records them with a checksum in {@code schema_version}.
+ * Runs before the EntityManagerFactory starts, so Hibernate only validates the schema.
+ * <p>
+ * Changes that plain DDL cannot express portably are {@link JavaMigration}s, numbered in the same
+ * sequence as the scripts.
+ * <p>
+ * Scripts use Flyway's naming, so Flyway can pick them up, but they are written for H2: V2 uses
+ * {@code ADD CONSTRAINT IF NOT EXISTS}, which other databases lack. Another database needs its own
+ * copies of such scripts. A script edited after it was applied, or a new one older than the latest
+ * applied version, fails startup. Comment lines are not part of the checksum, so comments can be
+ * corrected in applied scripts.
+ * <p>
+ * Instances starting together against the same database migrate one at a time: each holds a row
+ * lock on {@code schema_version_lock} from a separate connection while it reads the history and
+ * applies scripts, and the others wait for it, then find the versions already recorded.
+ */
+public class SchemaMigrator implements InitializingBean {
+    public static final String HISTORY_TABLE = "schema_version";
+    public static final String LOCK_TABLE = "schema_version_lock";
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final Duration LOCK_WAIT = Duration.ofMinutes(2);
+
+    private final DataSource dataSource;
+    private final ResourcePatternResolver resourceResolver;
+    private final String location;
+    private final List<JavaMigration> javaMigrations;
+
+    public SchemaMigrator(DataSource dataSource, ResourcePatternResolver resourceResolver, String location) {
+        this(dataSource, resourceResolver, location, List.of());
+    }
+
+    public SchemaMigrator(DataSource dataSource, ResourcePatternResolver resourceResolver, String location,
+                          List<JavaMigration> javaMigrations) {
+        this.dataSource = dataSource;
+        this.resourceResolver = resourceResolver;
+        this.location = location;
+        this.javaMigrations = javaMigrations;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        migrate();
+    }
+
+    /**
+     * Applies the pending migrations.
+     * @return the versions applied by this call, in order
+     */
+    public List<Integer> migrate() {
+        List<Migration> migrations = findMigrations();
+        List<Integer> applied = new ArrayList<>();
+        try (Connection lock = dataSource.getConnection();
+             Connection connection = dataSource.getConnection()) {
+            createHistoryTables(connection);
+            // Scripts commit one by one (DDL commits implicitly anyway), so the lock lives in a
+            // transaction of its own that ends when this instance is done
+            acquireLock(lock);
+            try {
+                Map<Integer, Long> history = readHistory(connection);
+                int latest = history.keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+                for (Migration migration : migrations) {
+                    Long checksum = history.get(migration.version());
+                    if (checksum != null) {
+                        if (checksum != migration.checksum()) {
+                            throw new IllegalStateException("Migration " + migration.name() + " was changed after it was applied");
+                        }
+                    } else if (migration.version() < latest) {
+                        throw new IllegalStateException("Migration " + migration.name()
+                                + " is older than the applied version " + latest);
+                    } else {
+                        apply(connection, migration);
+                        applied.add(migration.version());
+                    }
+                }
+            } finally {
+                lock.rollback();
+                lock.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Schema migration failed", e);
+        }
+        return applied;
+    }
+
+    private List<Migration> findMigrations() {
+        try {
+            List<Migration> migrations = new ArrayList<>();
+            for (Resource resource : resourceResolver.getResources(location + "/V*__*.sql")) {
+                Matcher name = SCRIPT_NAME.matcher(resource.getFilename());
+                if (!name.matches()) {
+                    throw new IllegalStateException("Migration script name must look like V1__description.sql: " + resource.getFilename());
+                }
+                String script = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+                migrations.add(new Migration(Integer.parseInt(name.group(1)), name.group(2), checksum(script),
+                        connection -> ScriptUtils.executeSqlScript(connection, resource)));
+            }
+            for (JavaMigration migration : javaMigrations) {
+                // Like Flyway, Java migrations have no checksum; their code is versioned with the application
+                migrations.add(new Migration(migration.version(), migration.description(), 0, migration::migrate));
+            }
+            migrations.sort(Comparator.comparingInt(Migration::version));
+            for (int i = 1; i < migrations.size(); i++) {
+                if (migrations.get(i).version() == migrations.get(i - 1).version()) {
+                    throw new IllegalStateException("Duplicate migration version " + migrations.get(i).version());
+                }
+            }
+            return migrations;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read migrations from " + location, e);
+        }
+    }
+
+    private static void createHistoryTables(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + HISTORY_TABLE + " ("
+                    + "version INT NOT NULL PRIMARY KEY, "
+                    + "description VARCHAR(200) NOT NULL, "
+                    + "checksum BIGINT NOT NULL, "
+                    + "installed_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE TABLE IF NOT EXISTS " + LOCK_TABLE + " (id INT NOT NULL PRIMARY KEY)");
+            try {
+                statement.executeUpdate("INSERT INTO " + LOCK_TABLE + " (id) SELECT 1 WHERE NOT EXISTS (SELECT 1 FROM "
+                        + LOCK_TABLE + ")");
+            } catch (SQLException e) {
+                // Another instance inserted the row first
+                if (!lockRowExists(statement)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static boolean lockRowExists(Statement statement) throws SQLException {
+        try (ResultSet rows = statement.executeQuery("SELECT id FROM " + LOCK_TABLE + " WHERE id = 1")) {
+            return rows.next();
+        }
+    }
+
+    // Lock wait timeouts differ per database (H2 gives up after a few seconds), so a timed out
+    // wait is retried until LOCK_WAIT has passed
+    private static void acquireLock(Connection lock) throws SQLException {
+        lock.setAutoCommit(false);
+        long deadline = System.nanoTime() + LOCK_WAIT.toNanos();
+        while (true) {
+            try (Statement statement = lock.createStatement();
+                 ResultSet rows = statement.executeQuery("SELECT id FROM " + LOCK_TABLE + " WHERE id = 1 FOR UPDATE")) {
+                if (!rows.next()) {
+                    throw new IllegalStateException("Migration lock row is missing from " + LOCK_TABLE);
+                }
+                return;
+            } catch (SQLException e) {
+                lock.rollback();
+                if (System.nanoTime() > deadline) {
+                    lock.setAutoCommit(true);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static Map<Integer, Long> readHistory(Connection connection) throws SQLException {
+        Map<Integer, Long> history = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT version, checksum FROM " + HISTORY_TABLE)) {
+            while (rows.next()) {
+                history.put(rows.getInt(1), rows.getLong(2));
+            }
+        }
+        return history;
+    }
+
+    private static void apply(Connection connection, Migration migration) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            migration.step().apply(connection);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO " + HISTORY_TABLE + " (version, description, checksum, installed_at) VALUES (?, ?, ?, ?)")) {
+                insert.setInt(1, migration.version());
+                insert.setString(2, migration.description());
+                insert.setLong(3, migration.checksum());
+                insert.setTimestamp(4, Timestamp.from(Instant.now()));
+                insert.executeUpdate();
+            }
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            // Most databases commit DDL implicitly; the rollback only covers the rest
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static long checksum(String script) {
+        CRC32 crc = new CRC32();
+        // Line endings depend on the checkout and comment lines do not change the migration
+        for (String line : script.split("\r?\n")) {
+            if (!line.stripLeading().startsWith("--")) {
+                crc.update((line + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return crc.getValue();
+    }
+
+    private record Migration(int version, String description, long checksum, Step step) {
+        String name() {
+            return "V" + version + "__" + description;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void apply(Connection connection) throws SQLException;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.hexagonalapp.infrastructure.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spring Configuration class for read/write splitting in the Infrastructure layer.
+ * Active when {@code app.datasource.routing.enabled=true}. Replaces the auto-configured
+ * DataSource with a routing one: read-only transactions (user lookups) use the replicas,
+ * writes and schema migrations use the primary from {@code spring.datasource.*}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadWriteRoutingProperties.class)
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                 DataSourceProperties primaryProperties,
+                                                                 ReadWriteRoutingProperties properties) {
+        List<DataSource> replicas = new ArrayList<>(properties.getReplicas().size());
+        for (ReadWriteRoutingProperties.Replica replica : properties.getReplicas()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + replicas.size());
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setDriverClassName(primaryProperties.determineDriverClassName());
+            dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primaryProperties.determineUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primaryProperties.determinePassword());
+            dataSource.setReadOnly(true);
+            dataSource.setMaximumPoolSize(properties.getReplicaPoolSize());
+            dataSource.setConnectionTimeout(properties.getReplicaConnectionTimeout().toMillis());
+            replicas.add(dataSource);
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, properties.getReplicaRetryAfter());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(ReadWriteRoutingProperties properties) {
+        return new ReadYourWrites(properties.getReadYourWritesWindow(), properties.getReadYourWritesMaxEntries());
+    }
+}
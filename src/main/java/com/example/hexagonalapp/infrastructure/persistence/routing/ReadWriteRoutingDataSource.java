@@ -0,0 +1,139 @@
+package com.example.hexagonalapp.infrastructure.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * DataSource splitting reads from writes in the Infrastructure layer.
+ * Connections for read-only transactions go to the replicas in round-robin order; everything
+ * else, and reads pinned with {@link #onPrimary}, goes to the primary. A replica that fails to
+ * hand out a connection is skipped for {@code retryAfter} and the read moves on to the next
+ * replica, or to the primary once none is left.
+ * Wrap it in a LazyConnectionDataSourceProxy: the route is then picked when the first statement
+ * runs, after the transaction's read-only flag has been set.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    static final String PRIMARY = "primary";
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private final List<DataSource> replicas;
+    private final long retryAfterNanos;
+    // Per replica, the nanoTime until which it is skipped
+    private final AtomicLongArray skippedUntil;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration retryAfter) {
+        this.replicas = List.copyOf(replicas);
+        this.retryAfterNanos = retryAfter.toNanos();
+        this.skippedUntil = new AtomicLongArray(replicas.size());
+        long now = System.nanoTime();
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+            skippedUntil.set(i, now);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Runs the read against the primary even inside a read-only transaction, for data the
+     * replicas may not have received yet. Only affects connections opened during the call.
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        if (PRIMARY_PINNED.get() != null) {
+            return read.get();
+        }
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            PRIMARY_PINNED.remove();
+        }
+    }
+
+    static boolean isPinnedToPrimary() {
+        return PRIMARY_PINNED.get() != null;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty() || PRIMARY_PINNED.get() != null
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        long now = System.nanoTime();
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            int replica = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+            if (now - skippedUntil.get(replica) >= 0) {
+                return replica;
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(ConnectionSource source) throws SQLException {
+        Object key = determineCurrentLookupKey();
+        for (int attempt = 0; attempt < replicas.size() && key instanceof Integer replica; attempt++) {
+            try {
+                return source.connect(replicas.get(replica));
+            } catch (SQLException | RuntimeException e) {
+                // Pool start-up failures surface as runtime exceptions
+                skippedUntil.set(replica, System.nanoTime() + retryAfterNanos);
+                log.warn("Read replica {} unavailable, skipping it for {} ms", replica, retryAfterNanos / 1_000_000, e);
+                key = determineCurrentLookupKey();
+            }
+        }
+        return source.connect(getResolvedDefaultDataSource());
+    }
+
+    boolean isReplicaAvailable(int replica) {
+        return System.nanoTime() - skippedUntil.get(replica) >= 0;
+    }
+
+    /**
+     * Closes the replica pools; the primary is owned by its own bean.
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+}
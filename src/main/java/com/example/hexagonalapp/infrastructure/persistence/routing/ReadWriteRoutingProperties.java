@@ -0,0 +1,109 @@
+package com.example.hexagonalapp.infrastructure.persistence.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for read/write splitting ({@code app.datasource.routing.*}).
+ * The primary is configured through {@code spring.datasource.*}; routing is disabled unless
+ * {@code enabled} is set to true.
+ */
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class ReadWriteRoutingProperties {
+    private boolean enabled = false;
+    private List<Replica> replicas = new ArrayList<>();
+    private int replicaPoolSize = 10;
+    private Duration replicaConnectionTimeout = Duration.ofSeconds(1);
+    private Duration replicaRetryAfter = Duration.ofSeconds(30);
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    private int readYourWritesMaxEntries = 100_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    public int getReplicaPoolSize() {
+        return replicaPoolSize;
+    }
+
+    public void setReplicaPoolSize(int replicaPoolSize) {
+        this.replicaPoolSize = replicaPoolSize;
+    }
+
+    public Duration getReplicaConnectionTimeout() {
+        return replicaConnectionTimeout;
+    }
+
+    public void setReplicaConnectionTimeout(Duration replicaConnectionTimeout) {
+        this.replicaConnectionTimeout = replicaConnectionTimeout;
+    }
+
+    public Duration getReplicaRetryAfter() {
+        return replicaRetryAfter;
+    }
+
+    public void setReplicaRetryAfter(Duration replicaRetryAfter) {
+        this.replicaRetryAfter = replicaRetryAfter;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public int getReadYourWritesMaxEntries() {
+        return readYourWritesMaxEntries;
+    }
+
+    public void setReadYourWritesMaxEntries(int readYourWritesMaxEntries) {
+        this.readYourWritesMaxEntries = readYourWritesMaxEntries;
+    }
+
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.hexagonalapp.infrastructure.persistence.routing;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Read-your-writes guard for replica reads in the Infrastructure layer.
+ * Keys written through the primary (user IDs and emails) are remembered for the replication
+ * lag window, and reads of those keys run pinned to the primary, so a user who was just created
+ * is found before the replicas have caught up. Keys are kept in memory, so the guarantee covers
+ * reads served by the same application instance.
+ * <p>
+ * At most {@code maxEntries} keys are kept. Expired keys are swept at most once per quarter
+ * window, so the write path stays O(1). When a burst of writes (a batch create or an import)
+ * fills the map with fresh keys, further keys are not stored; instead every read goes to the
+ * primary until the window of the last such write has passed.
+ */
+public class ReadYourWrites {
+    private final ConcurrentHashMap<Object, Long> pinnedUntil = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+    private final AtomicLong nextSweep;
+    private volatile long allPinnedUntil;
+
+    public ReadYourWrites(Duration window, int maxEntries) {
+        this(window, maxEntries, System::nanoTime);
+    }
+
+    ReadYourWrites(Duration window, int maxEntries, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.maxEntries = maxEntries;
+        this.nanoClock = nanoClock;
+        this.nextSweep = new AtomicLong(nanoClock.getAsLong());
+        this.allPinnedUntil = nanoClock.getAsLong();
+    }
+
+    public void recordWrite(Object key) {
+        long now = nanoClock.getAsLong();
+        long until = now + windowNanos;
+        if (pinnedUntil.size() >= maxEntries && !pinnedUntil.containsKey(key)) {
+            sweepExpired(now);
+            if (pinnedUntil.size() >= maxEntries) {
+                allPinnedUntil = until;
+                return;
+            }
+        }
+        pinnedUntil.put(key, until);
+    }
+
+    public <T> T read(Object key, Supplier<T> query) {
+        long now = nanoClock.getAsLong();
+        return isAllPinned(now) || isPinned(key, now) ? ReadWriteRoutingDataSource.onPrimary(query) : query.get();
+    }
+
+    public <T> T readAll(Collection<?> keys, Supplier<T> query) {
+        long now = nanoClock.getAsLong();
+        if (isAllPinned(now)) {
+            return ReadWriteRoutingDataSource.onPrimary(query);
+        }
+        if (!pinnedUntil.isEmpty()) {
+            for (Object key : keys) {
+                if (isPinned(key, now)) {
+                    return ReadWriteRoutingDataSource.onPrimary(query);
+                }
+            }
+        }
+        return query.get();
+    }
+
+    int size() {
+        return pinnedUntil.size();
+    }
+
+    // One sweep per quarter window at most, by whichever writer claims it
+    private void sweepExpired(long now) {
+        long next = nextSweep.get();
+        if (now - next < 0 || !nextSweep.compareAndSet(next, now + windowNanos / 4)) {
+            return;
+        }
+        pinnedUntil.values().removeIf(until -> now - until >= 0);
+    }
+
+    private boolean isAllPinned(long now) {
+        return now - allPinnedUntil < 0;
+    }
+
+    private boolean isPinned(Object key, long now) {
+        Long until = pinnedUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (now - until >= 0) {
+            pinnedUntil.remove(key, until);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,24 @@
+-- Users and the transactional outbox. IF NOT EXISTS adopts databases created before
+-- migrations owned the schema (Hibernate ddl-auto or the former db/schema.sql).
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    payload VARCHAR(4000) NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    delivered_at TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id)
+);
+
+-- Relay scan: undelivered events in ID order
+CREATE INDEX IF NOT EXISTS ix_outbox_events_pending ON outbox_events (delivered_at, id);
@@ -0,0 +1,7 @@
+-- H2 dialect: ADD CONSTRAINT IF NOT EXISTS is not portable; other databases need their own copy.
+-- EmailAddress stores addresses lower-cased, so a plain unique index on email is also the
+-- case-insensitive one. The check keeps rows written around the domain from breaking that.
+-- The index carries the primary key, so the existsByEmail check is answered from the index
+-- alone; findByEmail finds the row through it and then reads the full row from the table.
+ALTER TABLE users ADD CONSTRAINT IF NOT EXISTS ck_users_email_lowercase CHECK (email = LOWER(email));
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email ON users (email);
@@ -0,0 +1,120 @@
+package com.example.hexagonalapp.application.service;
+
+import com.example.hexagonalapp.application.port.out.UserRepository;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.Name;
+import com.example.hexagonalapp.domain.model.valueobject.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BloomFilteredUserRepositoryTest {
+
+    @Mock
+    private UserRepository delegate;
+
+    private BloomFilteredUserRepository filteredRepository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(0);
+            action.accept("stored@example.com");
+            return null;
+        }).when(delegate).forEachEmail(any(Consumer.class));
+        filteredRepository = new BloomFilteredUserRepository(delegate, 1000, 0.01);
+        filteredRepository.rebuild();
+    }
+
+    /**
+     * Test: existsByEmail_skipsDatabaseForUnknownEmails
+     * Descripción: Verifica que un email que el filtro descarta no llegue a la base de datos.
+     * - Verifica: retorna false sin llamar al delegate
+     */
+    @Test
+    void existsByEmail_skipsDatabaseForUnknownEmails() {
+        // When
+        boolean exists = filteredRepository.existsByEmail("new@example.com");
+
+        // Then
+        assertFalse(exists);
+        verify(delegate, never()).existsByEmail(anyString());
+        assertEquals(1, filteredRepository.filteredLookupCount());
+    }
+
+    /**
+     * Test: existsByEmail_checksDatabaseForWarmedEmails
+     * Descripción: Verifica que un email cargado en el arranque se confirme contra la base de datos.
+     * - Mocks: delegate.existsByEmail retorna true
+     * - Verifica: retorna true y consulta al delegate
+     */
+    @Test
+    void existsByEmail_checksDatabaseForWarmedEmails() {
+        // Given
+        when(delegate.existsByEmail("stored@example.com")).thenReturn(true);
+
+        // When & Then
+        assertTrue(filteredRepository.existsByEmail("stored@example.com"));
+        assertEquals(1, filteredRepository.filterSize());
+    }
+
+    /**
+     * Test: save_addsEmailToFilter
+     * Descripción: Verifica que después de guardar, el email del usuario pase el filtro y se consulte
+     * en la base; en el batch solo se consultan los candidatos.
+     * - Verifica: existsByEmailIn recibe solo el email guardado
+     */
+    @Test
+    void save_addsEmailToFilter() {
+        // Given
+        User saved = new User(new Name("Saved User"), new EmailAddress("saved@example.com"));
+        saved.setId(new UserId(7L));
+        when(delegate.save(any(User.class))).thenReturn(saved);
+        when(delegate.existsByEmailIn(List.of("saved@example.com"))).thenReturn(Set.of("saved@example.com"));
+
+        // When
+        filteredRepository.save(saved);
+        Set<String> existing = filteredRepository.existsByEmailIn(List.of("saved@example.com", "other@example.com"));
+
+        // Then
+        assertEquals(Set.of("saved@example.com"), existing);
+        verify(delegate).existsByEmailIn(List.of("saved@example.com"));
+    }
+
+    /**
+     * Test: findByEmail_alwaysChecksDatabase
+     * Descripción: Verifica que la búsqueda por email consulte siempre la base de datos, aunque el filtro no
+     * conozca el email (usuarios creados por otra instancia o por otra vía).
+     * - Mocks: delegate.findByEmail retorna un usuario que el filtro no contiene
+     * - Verifica: se retorna el usuario y se consulta al delegate
+     */
+    @Test
+    void findByEmail_alwaysChecksDatabase() {
+        // Given
+        User elsewhere = new User(new Name("Elsewhere User"), new EmailAddress("elsewhere@example.com"));
+        elsewhere.setId(new UserId(8L));
+        when(delegate.findByEmail(new EmailAddress("elsewhere@example.com"))).thenReturn(Optional.of(elsewhere));
+
+        // When
+        Optional<User> found = filteredRepository.findByEmail(new EmailAddress("elsewhere@example.com"));
+
+        // Then
+        assertEquals(Optional.of(elsewhere), found);
+        verify(delegate).findByEmail(new EmailAddress("elsewhere@example.com"));
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.hexagonalapp.application.service;
+
+import com.example.hexagonalapp.application.port.out.UserRepository;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.Name;
+import com.example.hexagonalapp.domain.model.valueobject.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserRepositoryTest {
+
+    @Mock
+    private UserRepository delegate;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private CachingUserRepository cachingUserRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Every reading advances the clock, so access times are strictly ordered
+        cachingUserRepository = new CachingUserRepository(delegate, 2, Duration.ofSeconds(10), clock::incrementAndGet);
+    }
+
+    /**
+     * Test: findById_servesRepeatedReadsFromCache
+     * Descripción: Verifica que la segunda lectura del mismo ID no llegue al puerto decorado.
+     * - Mocks: delegate.findById retorna el usuario
+     * - Verifica: una sola llamada al delegate, un miss y un hit
+     */
+    @Test
+    void findById_servesRepeatedReadsFromCache() {
+        // Given
+        when(delegate.findById(1L)).thenReturn(Optional.of(user(1L, "one@example.com")));
+
+        // When
+        cachingUserRepository.findById(1L);
+        Optional<User> result = cachingUserRepository.findById(1L);
+
+        // Then
+        assertEquals("one@example.com", result.orElseThrow().getEmail().getValue());
+        verify(delegate, times(1)).findById(1L);
+        assertEquals(1, cachingUserRepository.missCount());
+        assertEquals(1, cachingUserRepository.hitCount());
+    }
+
+    /**
+     * Test: findById_reloadsExpiredEntries
+     * Descripción: Verifica que una entrada vencida por TTL se descarte y se vuelva a cargar.
+     * - Verifica: dos llamadas al delegate y una expiración contada, sin evicciones por tamaño
+     */
+    @Test
+    void findById_reloadsExpiredEntries() {
+        // Given
+        when(delegate.findById(1L)).thenReturn(Optional.of(user(1L, "one@example.com")));
+        cachingUserRepository.findById(1L);
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        cachingUserRepository.findById(1L);
+
+        // Then
+        verify(delegate, times(2)).findById(1L);
+        assertEquals(1, cachingUserRepository.expirationCount());
+        assertEquals(0, cachingUserRepository.evictionCount());
+    }
+
+    /**
+     * Test: findById_evictsLeastRecentlyUsed
+     * Descripción: Verifica que al superar el tamaño máximo se descarte la entrada menos usada recientemente.
+     * - Datos: caché de tamaño 2, se leen 1, 2, 1 y luego 3
+     * - Verifica: el 2 es descartado y el 1 sigue en caché
+     */
+    @Test
+    void findById_evictsLeastRecentlyUsed() {
+        // Given
+        when(delegate.findById(any())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            return Optional.of(user(id, "user" + id + "@example.com"));
+        });
+
+        // When
+        cachingUserRepository.findById(1L);
+        cachingUserRepository.findById(2L);
+        cachingUserRepository.findById(1L);
+        cachingUserRepository.findById(3L);
+        cachingUserRepository.findById(1L);
+        cachingUserRepository.findById(2L);
+
+        // Then
+        verify(delegate, times(1)).findById(1L);
+        verify(delegate, times(2)).findById(2L);
+        assertEquals(2, cachingUserRepository.size());
+        assertEquals(2, cachingUserRepository.evictionCount());
+    }
+
+    /**
+     * Test: save_writesThroughToCache
+     * Descripción: Verifica que un usuario guardado quede en caché y se sirva sin consultar al delegate.
+     * - Verifica: findById no llega al delegate después del save
+     */
+    @Test
+    void save_writesThroughToCache() {
+        // Given
+        User saved = user(5L, "five@example.com");
+        when(delegate.save(any(User.class))).thenReturn(saved);
+
+        // When
+        cachingUserRepository.save(new User(new Name("Five User"), new EmailAddress("five@example.com")));
+        Optional<User> result = cachingUserRepository.findById(5L);
+
+        // Then
+        assertTrue(result.isPresent());
+        verify(delegate, never()).findById(any());
+    }
+
+    /**
+     * Test: findAllById_fetchesOnlyMisses
+     * Descripción: Verifica que la búsqueda múltiple sirva desde caché los usuarios presentes y pida al delegate solo los faltantes.
+     * - Mocks: delegate.save retorna el usuario 1, delegate.findAllById retorna el usuario 2
+     * - Verifica: el delegate recibe solo los IDs 2 y 3, un hit, dos misses y el usuario 2 queda en caché
+     */
+    @Test
+    void findAllById_fetchesOnlyMisses() {
+        // Given
+        when(delegate.save(any(User.class))).thenReturn(user(1L, "one@example.com"));
+        cachingUserRepository.save(new User(new Name("One User"), new EmailAddress("one@example.com")));
+        when(delegate.findAllById(List.of(2L, 3L))).thenReturn(List.of(user(2L, "two@example.com")));
+
+        // When
+        List<User> found = cachingUserRepository.findAllById(List.of(1L, 2L, 3L));
+        Optional<User> cachedAfterwards = cachingUserRepository.findById(2L);
+
+        // Then
+        assertEquals(List.of("one@example.com", "two@example.com"),
+            found.stream().map(user -> user.getEmail().getValue()).toList());
+        verify(delegate).findAllById(List.of(2L, 3L));
+        verify(delegate, never()).findById(any());
+        assertTrue(cachedAfterwards.isPresent());
+        assertEquals(2, cachingUserRepository.hitCount());
+        assertEquals(2, cachingUserRepository.missCount());
+    }
+
+    /**
+     * Test: findByEmail_sharesEntriesWithIdLookups
+     * Descripción: Verifica que las búsquedas por email y por ID compartan las entradas de la caché en ambos sentidos.
+     * - Mocks: delegate.findByEmail retorna el usuario 7, delegate.findById retorna el usuario 8
+     * - Verifica: tras cargar por email, el ID se sirve desde caché y viceversa; una sola llamada al delegate por usuario
+     */
+    @Test
+    void findByEmail_sharesEntriesWithIdLookups() {
+        // Given
+        EmailAddress seven = new EmailAddress("seven@example.com");
+        when(delegate.findByEmail(seven)).thenReturn(Optional.of(user(7L, "seven@example.com")));
+        when(delegate.findById(8L)).thenReturn(Optional.of(user(8L, "eight@example.com")));
+
+        // When
+        cachingUserRepository.findByEmail(seven);
+        Optional<User> sevenById = cachingUserRepository.findById(7L);
+        cachingUserRepository.findById(8L);
+        Optional<User> eightByEmail = cachingUserRepository.findByEmail(new EmailAddress("eight@example.com"));
+
+        // Then
+        assertEquals("seven@example.com", sevenById.orElseThrow().getEmail().getValue());
+        assertEquals(8L, eightByEmail.orElseThrow().getId().getValue());
+        verify(delegate, never()).findById(7L);
+        verify(delegate, never()).findByEmail(new EmailAddress("eight@example.com"));
+        assertEquals(2, cachingUserRepository.hitCount());
+    }
+
+    /**
+     * Test: findByEmail_followsWritesAndEvictions
+     * Descripción: Verifica que el índice por email se actualice al cambiar el email de un usuario guardado y al descartar entradas.
+     * - Datos: caché de tamaño 2; el usuario 1 cambia de email y luego se descarta por LRU
+     * - Verifica: el email anterior ya no resuelve desde caché y, tras el descarte, el nuevo vuelve al delegate
+     */
+    @Test
+    void findByEmail_followsWritesAndEvictions() {
+        // Given
+        when(delegate.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        cachingUserRepository.save(user(1L, "old@example.com"));
+        cachingUserRepository.save(user(1L, "new@example.com"));
+        when(delegate.findByEmail(any())).thenReturn(Optional.empty());
+
+        // When
+        Optional<User> byOldEmail = cachingUserRepository.findByEmail(new EmailAddress("old@example.com"));
+        Optional<User> byNewEmail = cachingUserRepository.findByEmail(new EmailAddress("new@example.com"));
+        cachingUserRepository.save(user(2L, "two@example.com"));
+        cachingUserRepository.save(user(3L, "three@example.com"));
+        Optional<User> afterEviction = cachingUserRepository.findByEmail(new EmailAddress("new@example.com"));
+
+        // Then
+        assertTrue(byOldEmail.isEmpty());
+        assertEquals(1L, byNewEmail.orElseThrow().getId().getValue());
+        assertTrue(afterEviction.isEmpty());
+        verify(delegate).findByEmail(new EmailAddress("old@example.com"));
+        verify(delegate).findByEmail(new EmailAddress("new@example.com"));
+    }
+
+    private static User user(Long id, String email) {
+        User user = new User(new Name("Cached User"), new EmailAddress(email));
+        user.setId(new UserId(id));
+        return user;
+    }
+}
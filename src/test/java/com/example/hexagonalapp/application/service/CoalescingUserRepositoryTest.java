@@ -0,0 +1,161 @@
+package com.example.hexagonalapp.application.service;
+
+import com.example.hexagonalapp.application.port.out.UserRepository;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.Name;
+import com.example.hexagonalapp.domain.model.valueobject.UserId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingUserRepositoryTest {
+
+    @Mock
+    private UserRepository delegate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Test: findById_concurrentLookupsShareOneQuery
+     * Descripción: Verifica que lecturas concurrentes del mismo ID compartan una sola consulta en vuelo.
+     * - Mocks: delegate.findById bloquea hasta que todas las lecturas se hayan unido a la primera
+     * - Verifica: una sola llamada al delegate, mismo resultado para todos, instancias distintas y ratio de coalescencia
+     */
+    @Test
+    void findById_concurrentLookupsShareOneQuery() throws Exception {
+        // Given
+        CoalescingUserRepository repository = new CoalescingUserRepository(delegate);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(user(1L, "hot@example.com"));
+        });
+
+        // When
+        List<Future<Optional<User>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> repository.findById(1L)));
+        }
+        awaitCondition(() -> repository.coalescedLookupCount() == 7);
+        release.countDown();
+
+        // Then
+        List<User> users = new ArrayList<>();
+        for (Future<Optional<User>> result : results) {
+            users.add(result.get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        assertTrue(users.stream().allMatch(user -> user.getEmail().getValue().equals("hot@example.com")));
+        Set<User> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        instances.addAll(users);
+        assertEquals(8, instances.size());
+        verify(delegate, times(1)).findById(1L);
+        assertEquals(8, repository.lookupCount());
+        assertEquals(1, repository.queryCount());
+        assertEquals(0.875, repository.coalescingRatio(), 1e-9);
+    }
+
+    /**
+     * Test: findById_batchesDifferentIdsWithinWindow
+     * Descripción: Verifica que en modo micro-batching las lecturas de IDs distintos dentro de la ventana se resuelvan con un solo IN.
+     * - Mocks: delegate.findAllById retorna los usuarios 1 y 2
+     * - Verifica: un solo findAllById con los tres IDs, ningún findById y vacío para el ID inexistente
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void findById_batchesDifferentIdsWithinWindow() throws Exception {
+        // Given: a long window, so only a full batch ends it
+        CoalescingUserRepository repository = new CoalescingUserRepository(delegate, Duration.ofSeconds(5), 3);
+        when(delegate.findAllById(anyCollection())).thenReturn(List.of(user(1L, "one@example.com"), user(2L, "two@example.com")));
+
+        // When
+        Future<Optional<User>> first = executor.submit(() -> repository.findById(1L));
+        Future<Optional<User>> second = executor.submit(() -> repository.findById(2L));
+        Future<Optional<User>> third = executor.submit(() -> repository.findById(3L));
+
+        // Then
+        assertEquals("one@example.com", first.get(5, TimeUnit.SECONDS).orElseThrow().getEmail().getValue());
+        assertEquals("two@example.com", second.get(5, TimeUnit.SECONDS).orElseThrow().getEmail().getValue());
+        assertTrue(third.get(5, TimeUnit.SECONDS).isEmpty());
+        verify(delegate, times(1)).findAllById((Collection<Long>) argThat(ids -> Set.copyOf((Collection<Long>) ids).equals(Set.of(1L, 2L, 3L))));
+        verify(delegate, never()).findById(any());
+        assertEquals(1, repository.queryCount());
+    }
+
+    /**
+     * Test: findById_propagatesFailureToAllWaiters
+     * Descripción: Verifica que si la consulta compartida falla, todos los que esperaban reciban la excepción
+     * y la siguiente lectura vuelva a consultar.
+     * - Mocks: delegate.findById lanza excepción la primera vez y luego retorna vacío
+     * - Verifica: excepción en todas las lecturas concurrentes y una nueva consulta posterior
+     */
+    @Test
+    void findById_propagatesFailureToAllWaiters() throws Exception {
+        // Given
+        CoalescingUserRepository repository = new CoalescingUserRepository(delegate);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("Database unavailable");
+        }).thenReturn(Optional.empty());
+
+        // When
+        List<Future<Optional<User>>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(executor.submit(() -> repository.findById(1L)));
+        }
+        awaitCondition(() -> repository.coalescedLookupCount() == 2);
+        release.countDown();
+
+        // Then
+        for (Future<Optional<User>> result : results) {
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertEquals("Database unavailable", failure.getCause().getMessage());
+        }
+        assertTrue(repository.findById(1L).isEmpty());
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.sleep(1);
+        }
+    }
+
+    private static User user(Long id, String email) {
+        User user = new User(new Name("Coalesced User"), new EmailAddress(email));
+        user.setId(new UserId(id));
+        return user;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.hexagonalapp.application.service;
+
+import com.example.hexagonalapp.application.port.out.DomainEventPublisher;
+import com.example.hexagonalapp.application.port.out.EmailService;
+import com.example.hexagonalapp.application.port.out.ReactiveUserRepository;
+import com.example.hexagonalapp.domain.model.domainevent.UserCreatedEvent;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.UserId;
+import com.example.hexagonalapp.domain.service.UserDomainService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveUserApplicationServiceTest {
+
+    @Mock
+    private ReactiveUserRepository userRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    /**
+     * Test: createUser_handsSideEffectsOffTheCallingThread
+     * Descripción: Verifica que el email de bienvenida y el evento no se entreguen en el hilo que completó el
+     * guardado (en producción, el event loop de Netty/R2DBC).
+     * - Mocks: userRepository.save completa en el hilo del test; emailService registra su hilo
+     * - Verifica: el email se envía en un hilo boundedElastic, se publica UserCreatedEvent y se retorna el usuario
+     */
+    @Test
+    void createUser_handsSideEffectsOffTheCallingThread() {
+        // Given
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            user.setId(new UserId(1L));
+            return Mono.just(user);
+        });
+        AtomicReference<String> emailThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            emailThread.set(Thread.currentThread().getName());
+            return null;
+        }).when(emailService).sendWelcomeEmail("reactive@example.com", "Reactive User");
+        ReactiveUserApplicationService service = new ReactiveUserApplicationService(userRepository, emailService,
+                new UserDomainService(), domainEventPublisher);
+
+        // When
+        User created = service.createUser("Reactive User", "Reactive@Example.com").block();
+
+        // Then
+        assertEquals(1L, created.getId().getValue());
+        assertTrue(emailThread.get().startsWith("boundedElastic"), emailThread.get());
+        verify(domainEventPublisher).publish(any(UserCreatedEvent.class));
+    }
+}
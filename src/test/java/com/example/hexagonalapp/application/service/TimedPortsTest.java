@@ -0,0 +1,88 @@
+package com.example.hexagonalapp.application.service;
+
+import com.example.hexagonalapp.application.port.in.GetUserUseCase;
+import com.example.hexagonalapp.application.port.out.PortMetrics;
+import com.example.hexagonalapp.application.port.out.UserRepository;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.Name;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TimedPortsTest {
+
+    private final List<String> recorded = new ArrayList<>();
+
+    private final PortMetrics metrics = (port, operation) -> new PortMetrics.OperationTimer() {
+        @Override
+        public void recordSuccess(long elapsedNanos) {
+            recorded.add(port + "." + operation + ":success");
+        }
+
+        @Override
+        public void recordFailure(long elapsedNanos, Throwable failure) {
+            recorded.add(port + "." + operation + ":" + failure.getClass().getSimpleName());
+        }
+    };
+
+    /**
+     * Test: timed_recordsSuccessAndFailure
+     * Descripción: Verifica que el decorador registre cada llamada con el nombre del puerto y del método,
+     * y que relance la excepción original sin envolverla.
+     * - Mocks: caso de uso que retorna un usuario para el ID 1 y lanza IllegalArgumentException para otros
+     * - Verifica: resultado intacto, misma excepción y un registro por llamada con su resultado
+     */
+    @Test
+    void timed_recordsSuccessAndFailure() {
+        // Given
+        User user = new User(new Name("Timed User"), new EmailAddress("timed@example.com"));
+        GetUserUseCase target = id -> {
+            if (id == 1L) {
+                return user;
+            }
+            throw new IllegalArgumentException("User not found");
+        };
+        GetUserUseCase timed = TimedPorts.getUser(target, metrics);
+
+        // When
+        User result = timed.getUser(1L);
+        IllegalArgumentException failure = assertThrows(IllegalArgumentException.class, () -> timed.getUser(2L));
+
+        // Then
+        assertSame(user, result);
+        assertEquals("User not found", failure.getMessage());
+        assertEquals(List.of("GetUserUseCase.getUser:success", "GetUserUseCase.getUser:IllegalArgumentException"), recorded);
+    }
+
+    /**
+     * Test: userRepository_timesEachOperationUnderItsOwnName
+     * Descripción: Verifica que el decorador del repositorio reenvíe cada llamada y la registre con su propia operación.
+     * - Mocks: UserRepository que retorna un usuario para el ID 1 y confirma el email consultado
+     * - Verifica: resultados del repositorio intactos y un registro por operación llamada
+     */
+    @Test
+    void userRepository_timesEachOperationUnderItsOwnName() {
+        // Given
+        User user = new User(new Name("Timed User"), new EmailAddress("timed@example.com"));
+        UserRepository target = mock(UserRepository.class);
+        when(target.findById(1L)).thenReturn(Optional.of(user));
+        when(target.existsByEmail("timed@example.com")).thenReturn(true);
+        UserRepository timed = TimedPorts.userRepository(target, metrics);
+
+        // When
+        Optional<User> found = timed.findById(1L);
+        boolean exists = timed.existsByEmail("timed@example.com");
+
+        // Then
+        assertSame(user, found.orElseThrow());
+        assertTrue(exists);
+        assertEquals(List.of("UserRepository.findById:success", "UserRepository.existsByEmail:success"), recorded);
+    }
+}
@@ -1,11 +1,24 @@
 package com.example.hexagonalapp.application.service;
 
+import com.example.hexagonalapp.application.dto.CreateUserCommand;
+import com.example.hexagonalapp.application.dto.UserCreationResult;
+import com.example.hexagonalapp.application.dto.UserImportSummary;
+import com.example.hexagonalapp.application.dto.UserLookupResult;
+import com.example.hexagonalapp.application.dto.UserPage;
+import com.example.hexagonalapp.application.dto.UserSummary;
+import com.example.hexagonalapp.application.port.in.ImportUsersUseCase;
+import com.example.hexagonalapp.application.port.out.DomainEventPublisher;
 import com.example.hexagonalapp.application.port.out.EmailService;
 import com.example.hexagonalapp.application.port.out.UserRepository;
+import com.example.hexagonalapp.domain.model.domainevent.UserCreatedEvent;
+import com.example.hexagonalapp.domain.model.domainexception.EmailAlreadyExistsException;
+import com.example.hexagonalapp.domain.model.domainexception.UserNotFoundException;
 import com.example.hexagonalapp.domain.model.entity.User;
 import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
 import com.example.hexagonalapp.domain.model.valueobject.Name;
 import com.example.hexagonalapp.domain.service.UserDomainService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,10 +26,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +51,9 @@ class UserApplicationServiceTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
     private UserDomainService userDomainService = new UserDomainService();
 
     private UserApplicationService userApplicationService;
@@ -40,22 +66,22 @@ class UserApplicationServiceTest {
         EmailAddress email = new EmailAddress("test@example.com");
         user = new User(name, email);
         user.setId(new com.example.hexagonalapp.domain.model.valueobject.UserId(1L));
-        userApplicationService = new UserApplicationService(userRepository, emailService, userDomainService);
+        userApplicationService = new UserApplicationService(userRepository, emailService, userDomainService, domainEventPublisher);
     }
 
     /**
      * Test: createUser_success
      * Descripción: Verifica que se cree un usuario correctamente cuando no existe un email duplicado
      * y el usuario es válido según las reglas de dominio.
-     * - Mocks: userRepository.existsByEmail retorna false, userDomainService.isUserValidForOperations retorna true
-     * - Verifica: Se guarda el usuario, se envía email de bienvenida, se retorna el usuario guardado
+     * - Mocks: userRepository.save retorna el usuario, userDomainService.isUserValidForOperations retorna true
+     * - Verifica: Se guarda el usuario sin consultar antes la unicidad, se envía email de bienvenida, se publica UserCreatedEvent
+     *   y se retorna el usuario guardado
      */
     @Test
     void createUser_success() {
         // Given
         String name = "John Doe";
         String email = "john@example.com";
-        when(userRepository.existsByEmail(email)).thenReturn(false);
         when(userRepository.save(any(User.class))).thenReturn(user);
 
         // When
@@ -63,52 +89,121 @@ class UserApplicationServiceTest {
 
         // Then
         assertNotNull(result);
-        verify(userRepository).existsByEmail(email);
+        verify(userRepository, never()).existsByEmail(anyString());
         verify(userRepository).save(any(User.class));
         verify(emailService).sendWelcomeEmail(anyString(), anyString());
+        verify(domainEventPublisher).publish(any(UserCreatedEvent.class));
     }
 
     /**
      * Test: createUser_emailAlreadyExists
-     * Descripción: Verifica que se lance IllegalArgumentException cuando el email ya existe.
-     * - Mocks: userRepository.existsByEmail retorna true
-     * - Verifica: Se lanza excepción, no se guarda ni envía email
+     * Descripción: Verifica que se lance IllegalArgumentException cuando el índice único rechaza el email.
+     * - Mocks: userRepository.save lanza EmailAlreadyExistsException
+     * - Verifica: Se lanza excepción, no se envía email ni se publica evento
      */
     @Test
     void createUser_emailAlreadyExists() {
         // Given
         String name = "John Doe";
         String email = "john@example.com";
-        when(userRepository.existsByEmail(email)).thenReturn(true);
+        when(userRepository.save(any(User.class))).thenThrow(new EmailAlreadyExistsException());
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
             () -> userApplicationService.createUser(name, email));
         assertEquals("Email already exists", exception.getMessage());
-        verify(userRepository, never()).save(any(User.class));
         verify(emailService, never()).sendWelcomeEmail(anyString(), anyString());
+        verify(domainEventPublisher, never()).publish(any());
     }
 
     /**
      * Test: createUser_invalidDomainRules
      * Descripción: Verifica que se lance IllegalArgumentException cuando el usuario no cumple reglas de dominio.
-     * - Mocks: existsByEmail false, isUserValidForOperations false
-     * - Verifica: Se lanza excepción, no se guarda
+     * - Mocks: ninguno, el nombre inválido se rechaza antes de consultar la unicidad
+     * - Verifica: Se lanza excepción, no se consulta el repositorio ni se guarda
      */
     @Test
     void createUser_invalidDomainRules() {
         // Given
         String name = "J"; // Too short name
         String email = "john@example.com";
-        when(userRepository.existsByEmail(email)).thenReturn(false);
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
             () -> userApplicationService.createUser(name, email));
         assertEquals("Name must be at least 2 characters long", exception.getMessage());
+        verify(userRepository, never()).existsByEmail(anyString());
         verify(userRepository, never()).save(any(User.class));
     }
 
+    /**
+     * Test: createUser_recordsStageEvents
+     * Descripción: Verifica que createUser emita un evento JFR por etapa cuando la grabación los habilita.
+     * - Mocks: userRepository.save retorna el usuario
+     * - Verifica: las cinco etapas de createUser en orden dentro de la grabación
+     */
+    @Test
+    void createUser_recordsStageEvents() throws Exception {
+        // Given
+        when(userRepository.save(any(User.class))).thenReturn(user);
+        Path file = Files.createTempFile("stages", ".jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(UserStageEvent.NAME);
+            recording.start();
+            userApplicationService.createUser("John Doe", "john@example.com");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<String> stages = RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals(UserStageEvent.NAME))
+            .map(event -> event.getString("operation") + "." + event.getString("stage"))
+            .toList();
+        Files.delete(file);
+        assertEquals(List.of("createUser.valueObjects", "createUser.domainValidation",
+            "createUser.save", "createUser.emailDispatch", "createUser.eventPublish"), stages);
+    }
+
+    /**
+     * Test: createUsers_batch
+     * Descripción: Verifica que el batch consulte la unicidad una sola vez, guarde en un solo saveAll
+     * y reporte por elemento los inválidos, duplicados dentro del batch y emails ya existentes.
+     * - Mocks: existsByEmailIn retorna el email existente, saveAll retorna el usuario guardado
+     * - Verifica: un resultado por comando en orden, un solo existsByEmailIn, un solo saveAll y
+     *   emails y eventos entregados una sola vez para todo el batch
+     */
+    @Test
+    void createUsers_batch() {
+        // Given
+        List<CreateUserCommand> commands = List.of(
+            new CreateUserCommand("John Doe", "john@example.com"),
+            new CreateUserCommand("Jane Doe", "JOHN@example.com"),
+            new CreateUserCommand("Taken User", "taken@example.com"),
+            new CreateUserCommand("Bad Email", "not-an-email"));
+        when(userRepository.existsByEmailIn(anyCollection())).thenReturn(Set.of("taken@example.com"));
+        when(userRepository.saveAll(anyList())).thenReturn(List.of(user));
+
+        // When
+        List<UserCreationResult> results = userApplicationService.createUsers(commands);
+
+        // Then
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isCreated());
+        assertEquals("Duplicate email in batch", results.get(1).getError());
+        assertEquals("Email already exists", results.get(2).getError());
+        assertEquals("Invalid email address format", results.get(3).getError());
+        verify(userRepository).existsByEmailIn(anyCollection());
+        verify(userRepository).saveAll(anyList());
+        verify(userRepository, never()).save(any(User.class));
+        verify(emailService).sendWelcomeEmails(List.of(user));
+        verify(domainEventPublisher).publishAll(argThat(events -> events.size() == 1));
+        verify(emailService, never()).sendWelcomeEmail(anyString(), anyString());
+        verify(domainEventPublisher, never()).publish(any());
+    }
+
     /**
      * Test: getUser_success
      * Descripción: Verifica que se retorne el usuario cuando existe.
@@ -146,4 +241,242 @@ class UserApplicationServiceTest {
             () -> userApplicationService.getUser(userId));
         assertEquals("User not found", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test: createUser_savesNormalizedEmail
+     * Descripción: Verifica que se guarde el email normalizado, que es el valor que compara el índice único.
+     * - Mocks: userRepository.save retorna el usuario
+     * - Verifica: el usuario guardado lleva el email en minúsculas
+     */
+    @Test
+    void createUser_savesNormalizedEmail() {
+        // Given
+        when(userRepository.save(any(User.class))).thenReturn(user);
+
+        // When
+        userApplicationService.createUser("John Doe", "John@Example.COM");
+
+        // Then
+        verify(userRepository).save(argThat(saved -> saved.getEmail().getValue().equals("john@example.com")));
+    }
+
+    /**
+     * Test: findUserByEmail_normalizesEmail
+     * Descripción: Verifica que la búsqueda por email use el valor normalizado y falle con UserNotFoundException si no existe.
+     * - Mocks: userRepository.findByEmail retorna el usuario para test@example.com y vacío para otro email
+     * - Verifica: el usuario se encuentra con el email en mayúsculas y el email desconocido lanza excepción
+     */
+    @Test
+    void findUserByEmail_normalizesEmail() {
+        // Given
+        when(userRepository.findByEmail(new EmailAddress("test@example.com"))).thenReturn(Optional.of(user));
+        when(userRepository.findByEmail(new EmailAddress("other@example.com"))).thenReturn(Optional.empty());
+
+        // When
+        User result = userApplicationService.findUserByEmail("Test@Example.com");
+
+        // Then
+        assertEquals(user, result);
+        UserNotFoundException exception = assertThrows(UserNotFoundException.class,
+            () -> userApplicationService.findUserByEmail("other@example.com"));
+        assertEquals("User not found", exception.getMessage());
+    }
+
+    /**
+     * Test: getUsers_reportsMissingIdsInRequestOrder
+     * Descripción: Verifica que la búsqueda múltiple use una sola llamada al puerto y reporte los IDs no encontrados sin lanzar excepción.
+     * - Mocks: userRepository.findAllById retorna solo el usuario 1
+     * - Verifica: IDs repetidos consultados una vez, usuario encontrado y IDs faltantes en el orden pedido
+     */
+    @Test
+    void getUsers_reportsMissingIdsInRequestOrder() {
+        // Given
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of(user));
+
+        // When
+        UserLookupResult result = userApplicationService.getUsers(List.of(3L, 1L, 2L, 1L));
+
+        // Then
+        assertEquals(List.of(user), result.getUsers());
+        assertEquals(List.of(3L, 2L), result.getMissingIds());
+        verify(userRepository).findAllById(argThat(ids -> ids.size() == 3));
+        verify(userRepository, never()).findById(any());
+    }
+
+    /**
+     * Test: listUsers_returnsPageAndNextCursor
+     * Descripción: Verifica que se pida una fila extra para saber si hay página siguiente sin contar filas.
+     * - Mocks: userRepository.findSummariesAfter retorna limit + 1 filas
+     * - Verifica: se devuelven limit filas y el siguiente cursor es el último ID de la página
+     */
+    @Test
+    void listUsers_returnsPageAndNextCursor() {
+        // Given
+        List<UserSummary> rows = List.of(
+            new UserSummary(11L, "User 11", "u11@example.com"),
+            new UserSummary(12L, "User 12", "u12@example.com"),
+            new UserSummary(13L, "User 13", "u13@example.com"));
+        when(userRepository.findSummariesAfter(10L, 3)).thenReturn(rows);
+        when(userRepository.findSummariesAfter(10L, 4)).thenReturn(rows);
+
+        // When
+        UserPage page = userApplicationService.listUsers(10L, 2);
+        UserPage lastPage = userApplicationService.listUsers(10L, 3);
+
+        // Then
+        assertEquals(2, page.getItems().size());
+        assertEquals(12L, page.getNextAfterId());
+        assertEquals(3, lastPage.getItems().size());
+        assertFalse(lastPage.hasNext());
+        verify(userRepository, never()).findById(any());
+    }
+
+    /**
+     * Test: listUsers_rejectsInvalidLimit
+     * Descripción: Verifica que el tamaño de página esté acotado.
+     * - Mocks: ninguno
+     * - Verifica: IllegalArgumentException para 0 y para un valor mayor al máximo, sin consultar el repositorio
+     */
+    @Test
+    void listUsers_rejectsInvalidLimit() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> userApplicationService.listUsers(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> userApplicationService.listUsers(null, 1001));
+        verifyNoInteractions(userRepository);
+    }
+
+    /**
+     * Test: importUsers_commitsChunksAndReportsRowIndexes
+     * Descripción: Verifica que la importación procese por chunks, rechace filas no parseables sin abortar
+     * y detecte emails confirmados en chunks anteriores.
+     * - Mocks: existsByEmailIn retorna los emails ya guardados, saveAll asigna IDs
+     * - Verifica: índices de fila globales en orden, un progreso por chunk y totales finales
+     */
+    @Test
+    void importUsers_commitsChunksAndReportsRowIndexes() {
+        // Given
+        Set<String> saved = new HashSet<>();
+        when(userRepository.existsByEmailIn(anyCollection())).thenAnswer(invocation -> {
+            Set<String> existing = new HashSet<>(invocation.<Collection<String>>getArgument(0));
+            existing.retainAll(saved);
+            return existing;
+        });
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            for (User u : users) {
+                u.setId(new com.example.hexagonalapp.domain.model.valueobject.UserId((long) saved.size() + 1));
+                saved.add(u.getEmail().getValue());
+            }
+            return users;
+        });
+        Iterator<CreateUserCommand> rows = new Iterator<>() {
+            private int row;
+
+            @Override
+            public boolean hasNext() {
+                return row < 5;
+            }
+
+            @Override
+            public CreateUserCommand next() {
+                switch (row++) {
+                    case 0: return new CreateUserCommand("Ann", "ann@example.com");
+                    case 1: throw new IllegalArgumentException("Malformed JSON row");
+                    case 2: return new CreateUserCommand("Bob", "bob@example.com");
+                    case 3: return new CreateUserCommand("Ann Again", "ANN@example.com");
+                    default: return new CreateUserCommand("Bad Email", "not-an-email");
+                }
+            }
+        };
+        List<UserCreationResult> rejected = new ArrayList<>();
+        List<UserImportSummary> progress = new ArrayList<>();
+        ImportUsersUseCase.ImportListener listener = new ImportUsersUseCase.ImportListener() {
+            @Override
+            public void onRejected(UserCreationResult result) {
+                rejected.add(result);
+            }
+
+            @Override
+            public void onChunkCommitted(UserImportSummary summary) {
+                progress.add(summary);
+            }
+        };
+
+        // When
+        UserImportSummary summary = userApplicationService.importUsers(rows, 2, listener);
+
+        // Then
+        assertEquals(List.of(1, 3, 4), rejected.stream().map(UserCreationResult::getIndex).toList());
+        assertEquals("Malformed JSON row", rejected.get(0).getError());
+        assertEquals("Email already exists", rejected.get(1).getError());
+        assertEquals(3, progress.size());
+        assertEquals(5, summary.getProcessed());
+        assertEquals(2, summary.getCreated());
+        assertEquals(3, summary.getRejected());
+        verify(userRepository, times(2)).saveAll(anyList());
+        verify(emailService, times(2)).sendWelcomeEmails(anyList());
+    }
+
+    /**
+     * Test: importUsers_rejectsRowTakenByConcurrentCreate
+     * Descripción: Verifica que un email tomado por un alta concurrente entre la consulta de unicidad y el
+     * guardado rechace solo su fila y no aborte la importación.
+     * - Mocks: saveAll lanza EmailAlreadyExistsException siempre que incluye raced@example.com
+     * - Verifica: la fila afectada se rechaza con su índice, el resto del chunk se guarda y la importación termina
+     */
+    @Test
+    void importUsers_rejectsRowTakenByConcurrentCreate() {
+        // Given
+        when(userRepository.existsByEmailIn(anyCollection())).thenReturn(Set.of());
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            if (users.stream().anyMatch(u -> u.getEmail().getValue().equals("raced@example.com"))) {
+                throw new EmailAlreadyExistsException();
+            }
+            return users;
+        });
+        List<CreateUserCommand> rows = List.of(
+            new CreateUserCommand("Ann", "ann@example.com"),
+            new CreateUserCommand("Raced", "raced@example.com"),
+            new CreateUserCommand("Bob", "bob@example.com"));
+        List<UserCreationResult> rejected = new ArrayList<>();
+        ImportUsersUseCase.ImportListener listener = new ImportUsersUseCase.ImportListener() {
+            @Override
+            public void onRejected(UserCreationResult result) {
+                rejected.add(result);
+            }
+
+            @Override
+            public void onChunkCommitted(UserImportSummary summary) {
+            }
+        };
+
+        // When
+        UserImportSummary summary = userApplicationService.importUsers(rows.iterator(), 3, listener);
+
+        // Then
+        assertEquals(1, rejected.size());
+        assertEquals(1, rejected.get(0).getIndex());
+        assertEquals("raced@example.com", rejected.get(0).getEmail());
+        assertEquals("Email already exists", rejected.get(0).getError());
+        assertEquals(3, summary.getProcessed());
+        assertEquals(2, summary.getCreated());
+        assertEquals(1, summary.getRejected());
+    }
+
+    /**
+     * Test: importUsers_rejectsInvalidChunkSize
+     * Descripción: Verifica que el tamaño de chunk esté acotado.
+     * - Mocks: ninguno
+     * - Verifica: IllegalArgumentException para 0 y para un valor mayor al máximo, sin consultar el repositorio
+     */
+    @Test
+    void importUsers_rejectsInvalidChunkSize() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> userApplicationService.importUsers(List.<CreateUserCommand>of().iterator(), 0, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> userApplicationService.importUsers(List.<CreateUserCommand>of().iterator(), 10_001, null));
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.hexagonalapp.domain.model.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailAddressSyntaxTest {
+
+    // Pattern EmailAddress used before the hand-written check; the reference for the fuzz tests
+    private static final Pattern REFERENCE_PATTERN = Pattern.compile(
+        "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$"
+    );
+
+    // Biased towards the characters the grammar cares about, plus whitespace and non-ASCII
+    private static final String ALPHABET = "aZz09._%+-@@..-- \t\nAé€$#!";
+
+    private static final int RANDOM_INPUTS = 200_000;
+
+    /**
+     * Test: isValid_matchesReferencePatternOnRandomInput
+     * Descripción: Prueba diferencial: cadenas aleatorias y direcciones mutadas contra la expresión regular original.
+     * - Mocks: ninguno (semilla fija para reproducir fallos)
+     * - Verifica: mismo resultado en las variantes String, rango de CharSequence y rango de bytes UTF-8
+     */
+    @Test
+    void isValid_matchesReferencePatternOnRandomInput() {
+        // Given
+        Random random = new Random(20240117L);
+
+        for (int n = 0; n < RANDOM_INPUTS; n++) {
+            String input = n % 2 == 0 ? randomString(random) : mutatedAddress(random);
+
+            // When
+            boolean expected = REFERENCE_PATTERN.matcher(input).matches();
+
+            // Then
+            assertEquals(expected, EmailAddressSyntax.isValid(input), () -> "String: " + printable(input));
+            String padded = "@ " + input + " .";
+            assertEquals(expected, EmailAddressSyntax.isValid(new StringBuilder(padded), 2, 2 + input.length()),
+                    () -> "CharSequence range: " + printable(input));
+            byte[] prefix = "x@".getBytes(StandardCharsets.UTF_8);
+            byte[] bytes = (new String(prefix, StandardCharsets.UTF_8) + input + "\n").getBytes(StandardCharsets.UTF_8);
+            int length = input.getBytes(StandardCharsets.UTF_8).length;
+            assertEquals(expected, EmailAddressSyntax.isValid(bytes, prefix.length, length),
+                    () -> "byte range: " + printable(input));
+        }
+    }
+
+    /**
+     * Test: emailAddress_normalizesLikeReferenceImplementation
+     * Descripción: Verifica que EmailAddress acepte, rechace y normalice igual que con la expresión regular y trim().toLowerCase().
+     * - Mocks: ninguno
+     * - Verifica: mismo valor normalizado y misma instancia cuando la entrada ya está en minúsculas
+     */
+    @Test
+    void emailAddress_normalizesLikeReferenceImplementation() {
+        // Given
+        Random random = new Random(7L);
+
+        for (int n = 0; n < RANDOM_INPUTS / 10; n++) {
+            String input = mutatedAddress(random);
+            boolean blank = input.trim().isEmpty();
+            boolean expected = !blank && REFERENCE_PATTERN.matcher(input).matches();
+
+            // When / Then
+            if (expected) {
+                assertEquals(input.trim().toLowerCase(), new EmailAddress(input).getValue(), input);
+            } else {
+                String message = assertThrows(IllegalArgumentException.class, () -> new EmailAddress(input)).getMessage();
+                assertEquals(blank ? "Email address cannot be null or empty" : "Invalid email address format", message);
+            }
+        }
+        String lowerCase = "already.lower@example.com";
+        assertSame(lowerCase, new EmailAddress(lowerCase).getValue());
+    }
+
+    /**
+     * Test: isValid_edgeCases
+     * Descripción: Casos límite de la gramática escritos a mano.
+     * - Mocks: ninguno
+     * - Verifica: aceptación/rechazo esperado y coincidencia con la expresión regular
+     */
+    @Test
+    void isValid_edgeCases() {
+        String[] valid = {"a@b.co", "A.B%C+D-E_F@sub.EXAMPLE.org", "a@-.io", "a@..io", ".@1.xx", "a@b.c.de"};
+        String[] invalid = {"", "@b.co", "a@", "a@.co", "a@b.c", "a@b.c1", "a@b.co.", "a@@b.co", "a@b_c.co",
+                "a b@c.co", " a@b.co", "a@b.co\n", "é@b.co", "a@b.cö", "a@bco", "a@b.-co"};
+
+        for (String input : valid) {
+            assertTrue(EmailAddressSyntax.isValid(input), input);
+            assertTrue(REFERENCE_PATTERN.matcher(input).matches(), input);
+        }
+        for (String input : invalid) {
+            assertFalse(EmailAddressSyntax.isValid(input), printable(input));
+            assertFalse(REFERENCE_PATTERN.matcher(input).matches(), printable(input));
+        }
+    }
+
+    private static String randomString(Random random) {
+        int length = random.nextInt(16);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    // A valid-looking address with up to three random edits, so most inputs sit near the boundary
+    private static String mutatedAddress(Random random) {
+        StringBuilder builder = new StringBuilder()
+                .append(randomLabel(random, 1 + random.nextInt(6)))
+                .append('@')
+                .append(randomLabel(random, 1 + random.nextInt(6)));
+        if (random.nextBoolean()) {
+            builder.append('.').append(randomLabel(random, 1 + random.nextInt(4)));
+        }
+        builder.append('.').append(randomLabel(random, random.nextInt(4)));
+        int edits = random.nextInt(4);
+        for (int i = 0; i < edits && builder.length() > 0; i++) {
+            int position = random.nextInt(builder.length() + 1);
+            char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            switch (random.nextInt(3)) {
+                case 0 -> builder.insert(position, c);
+                case 1 -> builder.deleteCharAt(Math.min(position, builder.length() - 1));
+                default -> builder.setCharAt(Math.min(position, builder.length() - 1), c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String randomLabel(Random random, int length) {
+        String letters = "abcxyzABCXYZ";
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(letters.charAt(random.nextInt(letters.length())));
+        }
+        return builder.toString();
+    }
+
+    private static String printable(String input) {
+        return "[" + input.replace("\n", "\\n").replace("\t", "\\t") + "]";
+    }
+}
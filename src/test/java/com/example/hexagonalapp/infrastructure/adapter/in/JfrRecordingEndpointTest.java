@@ -0,0 +1,71 @@
+package com.example.hexagonalapp.infrastructure.adapter.in;
+
+import com.example.hexagonalapp.application.service.UserStageEvent;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrRecordingEndpointTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JfrRecordingEndpoint endpoint;
+
+    @AfterEach
+    void tearDown() {
+        if (endpoint != null) {
+            endpoint.stop();
+        }
+    }
+
+    /**
+     * Test: start_toggleDumpAndStop
+     * Descripción: Verifica el ciclo de vida de la grabación: inicio con eventos de etapa, desactivación en caliente,
+     * volcado a archivo y detención.
+     * - Datos: propiedades con archivo de volcado en un directorio temporal
+     * - Verifica: estado en cada paso, ajuste del evento en la grabación y archivo de volcado no vacío
+     */
+    @Test
+    void start_toggleDumpAndStop() throws Exception {
+        // Given
+        JfrRecordingProperties properties = new JfrRecordingProperties();
+        properties.setDumpFile(tempDir.resolve("dump.jfr"));
+        endpoint = new JfrRecordingEndpoint(properties);
+
+        // When
+        Map<String, Object> started = endpoint.start(null);
+        String enabledAfterStart = stageEventSetting();
+        Map<String, Object> toggled = endpoint.start(false);
+        String enabledAfterToggle = stageEventSetting();
+        Resource dump = endpoint.dump("dump");
+        Map<String, Object> stopped = endpoint.stop();
+
+        // Then
+        assertEquals(true, started.get("running"));
+        assertEquals(true, started.get("stageEvents"));
+        assertEquals("true", enabledAfterStart);
+        assertEquals(false, toggled.get("stageEvents"));
+        assertEquals("false", enabledAfterToggle);
+        assertTrue(dump.contentLength() > 0);
+        assertEquals(false, stopped.get("running"));
+        assertNull(endpoint.dump("dump"));
+    }
+
+    private static String stageEventSetting() {
+        for (Recording recording : FlightRecorder.getFlightRecorder().getRecordings()) {
+            if ("hexagonal-app".equals(recording.getName())) {
+                return recording.getSettings().get(UserStageEvent.NAME + "#enabled");
+            }
+        }
+        return null;
+    }
+}
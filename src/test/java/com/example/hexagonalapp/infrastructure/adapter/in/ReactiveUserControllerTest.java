@@ -0,0 +1,87 @@
+package com.example.hexagonalapp.infrastructure.adapter.in;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactivetest;DB_CLOSE_DELAY=-1",
+        "app.r2dbc.url=r2dbc:h2:mem:///reactivetest",
+        "app.outbox.poll-interval-millis=3600000"
+})
+@ActiveProfiles("reactive")
+class ReactiveUserControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Test: createUser_thenGetUser
+     * Descripción: Verifica el flujo completo sobre WebFlux y R2DBC: alta, consulta y fila de outbox.
+     * - Mocks: ninguno (Netty, R2DBC y H2 en memoria)
+     * - Verifica: HTTP 200 en ambas llamadas, email normalizado, evento UserCreated en la misma transacción
+     */
+    @Test
+    void createUser_thenGetUser() {
+        // Given
+        Map<String, String> request = Map.of("name", "Reactive User", "email", "Reactive@Example.com");
+
+        // When
+        UserResponse created = webTestClient.post().uri("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        // Then
+        assertEquals("reactive@example.com", created.getEmail());
+        webTestClient.get().uri("/api/users/{id}", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(created.getId().intValue())
+                .jsonPath("$.name").isEqualTo("Reactive User")
+                .jsonPath("$.email").isEqualTo("reactive@example.com");
+        Integer events = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ? AND event_type = 'UserCreated'",
+                Integer.class, created.getId());
+        assertEquals(1, events);
+    }
+
+    /**
+     * Test: createUser_duplicateEmail
+     * Descripción: Verifica que el servicio reactivo rechace un email ya registrado.
+     * - Mocks: ninguno
+     * - Verifica: la segunda alta con el mismo email devuelve 409 con respuesta JSON estructurada
+     */
+    @Test
+    void createUser_duplicateEmail() {
+        // Given
+        Map<String, String> request = Map.of("name", "Twice", "email", "twice@example.com");
+        webTestClient.post().uri("/api/users").contentType(MediaType.APPLICATION_JSON).bodyValue(request)
+                .exchange().expectStatus().isOk();
+
+        // When / Then
+        webTestClient.post().uri("/api/users").contentType(MediaType.APPLICATION_JSON).bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Conflict")
+                .jsonPath("$.message").isEqualTo("Email already exists")
+                .jsonPath("$.path").isEqualTo("/api/users");
+    }
+}
@@ -1,7 +1,21 @@
 package com.example.hexagonalapp.infrastructure.adapter.in;
 
+import com.example.hexagonalapp.application.dto.CreateUserCommand;
+import com.example.hexagonalapp.application.dto.UserCreationResult;
+import com.example.hexagonalapp.application.dto.UserImportSummary;
+import com.example.hexagonalapp.application.dto.UserLookupResult;
+import com.example.hexagonalapp.application.dto.UserPage;
+import com.example.hexagonalapp.application.dto.UserSummary;
 import com.example.hexagonalapp.application.port.in.CreateUserUseCase;
+import com.example.hexagonalapp.application.port.in.CreateUsersBatchUseCase;
+import com.example.hexagonalapp.application.port.in.ExportUsersUseCase;
+import com.example.hexagonalapp.application.port.in.FindUserByEmailUseCase;
 import com.example.hexagonalapp.application.port.in.GetUserUseCase;
+import com.example.hexagonalapp.application.port.in.GetUsersUseCase;
+import com.example.hexagonalapp.application.port.in.ImportUsersUseCase;
+import com.example.hexagonalapp.application.port.in.ListUsersUseCase;
+import com.example.hexagonalapp.domain.model.domainexception.EmailAlreadyExistsException;
+import com.example.hexagonalapp.domain.model.domainexception.UserNotFoundException;
 import com.example.hexagonalapp.domain.model.entity.User;
 import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
 import com.example.hexagonalapp.domain.model.valueobject.Name;
@@ -14,6 +28,18 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -28,9 +54,27 @@ class UserControllerTest {
     @MockBean
     private CreateUserUseCase createUserUseCase;
 
+    @MockBean
+    private CreateUsersBatchUseCase createUsersBatchUseCase;
+
     @MockBean
     private GetUserUseCase getUserUseCase;
 
+    @MockBean
+    private GetUsersUseCase getUsersUseCase;
+
+    @MockBean
+    private FindUserByEmailUseCase findUserByEmailUseCase;
+
+    @MockBean
+    private ListUsersUseCase listUsersUseCase;
+
+    @MockBean
+    private ExportUsersUseCase exportUsersUseCase;
+
+    @MockBean
+    private ImportUsersUseCase importUsersUseCase;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -87,7 +131,40 @@ class UserControllerTest {
         mockMvc.perform(post("/api/users")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.path").value("/api/users"));
+    }
+
+    /**
+     * Test: createUsers_batch
+     * Descripción: Verifica que el endpoint batch retorne un resultado por cada elemento, en orden.
+     * - Mocks: createUsersBatchUseCase.createUsers retorna un creado y un rechazado
+     * - Verifica: HTTP 200, arreglo JSON con estado y error por elemento
+     */
+    @Test
+    void createUsers_batch() throws Exception {
+        // Given
+        UserController.CreateUserRequest first = new UserController.CreateUserRequest();
+        first.setName("Test User");
+        first.setEmail("test@example.com");
+        UserController.CreateUserRequest second = new UserController.CreateUserRequest();
+        second.setName("Other User");
+        second.setEmail("test@example.com");
+
+        when(createUsersBatchUseCase.createUsers(anyList())).thenReturn(List.of(
+            UserCreationResult.created(0, user),
+            UserCreationResult.rejected(1, "test@example.com", "Duplicate email in batch")));
+
+        // When & Then
+        mockMvc.perform(post("/api/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(first, second))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].created").value(true))
+                .andExpect(jsonPath("$[0].user.id").value(1))
+                .andExpect(jsonPath("$[1].created").value(false))
+                .andExpect(jsonPath("$[1].error").value("Duplicate email in batch"));
     }
 
     /**
@@ -111,23 +188,241 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.email").exists());
     }
 
+    /**
+     * Test: listUsers_withCursor
+     * Descripción: Verifica que el cursor opaco devuelto en una página lleve a la siguiente.
+     * - Mocks: listUsersUseCase.listUsers retorna una página con siguiente y luego la última
+     * - Verifica: HTTP 200, items, nextCursor opaco que se decodifica al último ID, null en la última página
+     */
+    @Test
+    void listUsers_withCursor() throws Exception {
+        // Given
+        when(listUsersUseCase.listUsers(null, 2)).thenReturn(new UserPage(List.of(
+            new UserSummary(1L, "Test User", "test@example.com"),
+            new UserSummary(2L, "Other User", "other@example.com")), 2L));
+        when(listUsersUseCase.listUsers(2L, 2)).thenReturn(new UserPage(List.of(
+            new UserSummary(3L, "Last User", "last@example.com")), null));
+
+        // When
+        String body = mockMvc.perform(get("/api/users").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[1].email").value("other@example.com"))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        // Then
+        assertNotEquals("2", cursor);
+        mockMvc.perform(get("/api/users").param("cursor", cursor).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(3))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    /**
+     * Test: getUsers_byIdsAndLookup
+     * Descripción: Verifica la búsqueda múltiple por parámetro ids y por cuerpo JSON en /lookup.
+     * - Mocks: getUsersUseCase.getUsers retorna un usuario encontrado y un ID faltante
+     * - Verifica: HTTP 200 con usuarios y missingIds en ambas variantes
+     */
+    @Test
+    void getUsers_byIdsAndLookup() throws Exception {
+        // Given
+        when(getUsersUseCase.getUsers(List.of(1L, 9L))).thenReturn(new UserLookupResult(List.of(user), List.of(9L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/users").param("ids", "1,9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].id").value(1))
+                .andExpect(jsonPath("$.users[0].email").value("test@example.com"))
+                .andExpect(jsonPath("$.missingIds[0]").value(9));
+        mockMvc.perform(post("/api/users/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1,9]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(1))
+                .andExpect(jsonPath("$.missingIds[0]").value(9));
+    }
+
+    /**
+     * Test: exportUsers_ndjsonAndCsv
+     * Descripción: Verifica que la exportación escriba una fila por usuario en NDJSON y en CSV.
+     * - Mocks: exportUsersUseCase.exportUsers entrega dos usuarios al sink
+     * - Verifica: tipo de contenido, una línea JSON por usuario y CSV con cabecera y comillas cuando hace falta
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportUsers_ndjsonAndCsv() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<UserSummary> sink = invocation.getArgument(0);
+            sink.accept(new UserSummary(1L, "Test User", "test@example.com"));
+            sink.accept(new UserSummary(2L, "Doe, \"Jane\"", "jane@example.com"));
+            return null;
+        }).when(exportUsersUseCase).exportUsers(any(Consumer.class));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+                .andExpect(content().string("{\"id\":1,\"name\":\"Test User\",\"email\":\"test@example.com\"}\n"
+                        + "{\"id\":2,\"name\":\"Doe, \\\"Jane\\\"\",\"email\":\"jane@example.com\"}\n"));
+        mockMvc.perform(get("/api/users/export").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(content().string("id,name,email\r\n"
+                        + "1,Test User,test@example.com\r\n"
+                        + "2,\"Doe, \"\"Jane\"\"\",jane@example.com\r\n"));
+    }
+
+    /**
+     * Test: importUsers_csvStreamsRejectionsAndProgress
+     * Descripción: Verifica que el cuerpo CSV se lea fila a fila y que el progreso se devuelva como NDJSON.
+     * - Mocks: importUsersUseCase.importUsers consume las filas, rechaza la no parseable y reporta un chunk
+     * - Verifica: columnas por cabecera, campos entre comillas, fila mal formada rechazada y líneas de progreso y resumen
+     */
+    @Test
+    void importUsers_csvStreamsRejectionsAndProgress() throws Exception {
+        // Given
+        List<CreateUserCommand> commands = new ArrayList<>();
+        when(importUsersUseCase.importUsers(any(), eq(500), any())).thenAnswer(invocation -> {
+            Iterator<CreateUserCommand> rows = invocation.getArgument(0);
+            ImportUsersUseCase.ImportListener listener = invocation.getArgument(2);
+            int row = 0;
+            while (rows.hasNext()) {
+                try {
+                    commands.add(rows.next());
+                } catch (IllegalArgumentException e) {
+                    listener.onRejected(UserCreationResult.rejected(row, null, e.getMessage()));
+                }
+                row++;
+            }
+            listener.onChunkCommitted(new UserImportSummary(row, commands.size(), 1));
+            return new UserImportSummary(row, commands.size(), 1);
+        });
+        String body = "email,name\r\n"
+                + "test@example.com,Test User\r\n"
+                + "\r\n"
+                + "\"unterminated,Broken\r\n"
+                + "jane@example.com,\"Doe, \"\"Jane\"\"\"\r\n";
+
+        // When & Then
+        mockMvc.perform(post("/api/users/import").param("chunkSize", "500")
+                        .contentType("text/csv").content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+                .andExpect(content().string(
+                        "{\"type\":\"rejected\",\"index\":1,\"email\":null,\"error\":\"Malformed CSV row: unterminated quoted field\"}\n"
+                        + "{\"type\":\"progress\",\"processed\":3,\"created\":2,\"rejected\":1}\n"
+                        + "{\"type\":\"summary\",\"processed\":3,\"created\":2,\"rejected\":1}\n"));
+        assertEquals(2, commands.size());
+        assertEquals("Test User", commands.get(0).getName());
+        assertEquals("test@example.com", commands.get(0).getEmail());
+        assertEquals("Doe, \"Jane\"", commands.get(1).getName());
+    }
+
+    /**
+     * Test: importUsers_ndjsonReadsOneObjectPerLine
+     * Descripción: Verifica que cada línea NDJSON se convierta en un comando, ignorando campos desconocidos.
+     * - Mocks: importUsersUseCase.importUsers consume las filas con el tamaño de chunk por defecto
+     * - Verifica: nombre y email de cada fila y rechazo de la línea que no es un objeto
+     */
+    @Test
+    void importUsers_ndjsonReadsOneObjectPerLine() throws Exception {
+        // Given
+        List<Object> rows = new ArrayList<>();
+        when(importUsersUseCase.importUsers(any(), eq(ImportUsersUseCase.DEFAULT_CHUNK_SIZE), any())).thenAnswer(invocation -> {
+            Iterator<CreateUserCommand> it = invocation.getArgument(0);
+            while (it.hasNext()) {
+                try {
+                    rows.add(it.next());
+                } catch (IllegalArgumentException e) {
+                    rows.add(e.getMessage());
+                }
+            }
+            return new UserImportSummary(rows.size(), 0, 0);
+        });
+        String body = "{\"name\":\"Test User\",\"email\":\"test@example.com\",\"extra\":{\"a\":[1,2]}}\n"
+                + "[1,2]\n"
+                + "{\"email\":\"jane@example.com\",\"name\":\"Jane\"}";
+
+        // When & Then
+        mockMvc.perform(post("/api/users/import").contentType("application/x-ndjson").content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"type\":\"summary\",\"processed\":3,\"created\":0,\"rejected\":0}\n"));
+        assertEquals(3, rows.size());
+        assertEquals("test@example.com", ((CreateUserCommand) rows.get(0)).getEmail());
+        assertEquals("Malformed JSON row: expected an object", rows.get(1));
+        assertEquals("Jane", ((CreateUserCommand) rows.get(2)).getName());
+    }
+
+    /**
+     * Test: findUserByEmail_foundAndNotFound
+     * Descripción: Verifica la búsqueda por email: el email completo (con puntos) llega al caso de uso y un email desconocido da 404.
+     * - Mocks: findUserByEmailUseCase retorna el usuario para John@Example.com y lanza UserNotFoundException para otro
+     * - Verifica: HTTP 200 con el usuario y HTTP 404 con respuesta JSON estructurada
+     */
+    @Test
+    void findUserByEmail_foundAndNotFound() throws Exception {
+        // Given
+        User user = new User(new Name("John Doe"), new EmailAddress("john@example.com"));
+        user.setId(new UserId(1L));
+        when(findUserByEmailUseCase.findUserByEmail("John@Example.com")).thenReturn(user);
+        when(findUserByEmailUseCase.findUserByEmail("missing@example.com")).thenThrow(new UserNotFoundException());
+
+        // When & Then
+        mockMvc.perform(get("/api/users/by-email/{email}", "John@Example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.email").value("john@example.com"));
+        mockMvc.perform(get("/api/users/by-email/{email}", "missing@example.com"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("User not found"))
+                .andExpect(jsonPath("$.path").value("/api/users/by-email/missing@example.com"));
+    }
+
     /**
      * Test: getUser_notFound
      * Descripción: Verifica que se retorne error estructurado cuando el usuario no existe.
-     * - Mocks: getUserUseCase.getUser lanza IllegalArgumentException
-     * - Verifica: HTTP 400 con respuesta JSON estructurada
+     * - Mocks: getUserUseCase.getUser lanza UserNotFoundException
+     * - Verifica: HTTP 404 con respuesta JSON estructurada
      */
-    //Test
+    @Test
     void getUser_notFound() throws Exception {
         // Given
         Long userId = 1L;
-        when(getUserUseCase.getUser(userId)).thenThrow(new IllegalArgumentException("User not found"));
+        when(getUserUseCase.getUser(userId)).thenThrow(new UserNotFoundException(userId));
 
         // When & Then
         mockMvc.perform(get("/api/users/{id}", userId))
-                .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.status").value(400))
-                .andExpect(jsonPath("$.error").value("Bad Request"))
-                .andExpect(jsonPath("$.message").value("User not found"));
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.error").value("Not Found"))
+                .andExpect(jsonPath("$.message").value("User not found"))
+                .andExpect(jsonPath("$.path").value("/api/users/1"));
+    }
+
+    /**
+     * Test: createUser_duplicateEmail
+     * Descripción: Verifica que un email ya registrado se responda como conflicto.
+     * - Mocks: createUserUseCase.createUser lanza EmailAlreadyExistsException
+     * - Verifica: HTTP 409 con respuesta JSON estructurada
+     */
+    @Test
+    void createUser_duplicateEmail() throws Exception {
+        // Given
+        UserController.CreateUserRequest request = new UserController.CreateUserRequest();
+        request.setName("John Doe");
+        request.setEmail("john@example.com");
+        when(createUserUseCase.createUser("John Doe", "john@example.com")).thenThrow(new EmailAlreadyExistsException());
+
+        // When & Then
+        mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.error").value("Conflict"))
+                .andExpect(jsonPath("$.message").value("Email already exists"));
     }
-}
\ No newline at end of file
+}
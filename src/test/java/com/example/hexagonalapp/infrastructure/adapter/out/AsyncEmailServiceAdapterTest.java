@@ -0,0 +1,157 @@
+package com.example.hexagonalapp.infrastructure.adapter.out;
+
+import com.example.hexagonalapp.application.port.out.EmailService;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.Name;
+import com.example.hexagonalapp.infrastructure.adapter.config.WorkerThreadFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AsyncEmailServiceAdapterTest {
+
+    private final EmailService provider = mock(EmailService.class);
+
+    private AsyncEmailServiceAdapter adapter;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        adapter.shutdown();
+    }
+
+    /**
+     * Test: sendWelcomeEmail_dispatchesAsynchronously
+     * Descripción: Verifica que el email se envíe desde el hilo despachador y no desde el llamador.
+     * - Verifica: el proveedor recibe el email y la cola queda vacía
+     */
+    @Test
+    void sendWelcomeEmail_dispatchesAsynchronously() {
+        // Given
+        adapter = new AsyncEmailServiceAdapter(provider, new AsyncEmailProperties(), new WorkerThreadFactory(false));
+
+        // When
+        adapter.sendWelcomeEmail("john@example.com", "John Doe");
+
+        // Then
+        verify(provider, timeout(2000)).sendWelcomeEmail("john@example.com", "John Doe");
+        assertEquals(0, adapter.queueDepth());
+    }
+
+    /**
+     * Test: sendWelcomeEmail_waitsForCommit
+     * Descripción: Verifica que dentro de una transacción el email solo se encole después del commit,
+     * y que una transacción revertida nunca envíe email.
+     * - Verifica: nada se envía antes de afterCommit ni tras un rollback
+     */
+    @Test
+    void sendWelcomeEmail_waitsForCommit() {
+        // Given
+        adapter = new AsyncEmailServiceAdapter(provider, new AsyncEmailProperties(), new WorkerThreadFactory(false));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        adapter.sendWelcomeEmail("committed@example.com", "Committed User");
+        adapter.sendWelcomeEmail("committed@example.com", "Committed User");
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Then
+        verify(provider, after(200).never()).sendWelcomeEmail(anyString(), anyString());
+        synchronizations.get(0).afterCommit();
+        synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        verify(provider, timeout(2000).times(1)).sendWelcomeEmail("committed@example.com", "Committed User");
+    }
+
+    /**
+     * Test: sendWelcomeEmail_dropsWhenQueueIsFull
+     * Descripción: Verifica la política DROP cuando la cola acotada está llena.
+     * - Mocks: el proveedor bloquea el despachador hasta que termina la prueba
+     * - Verifica: los emails que no caben se cuentan como descartados y se publican en app.email.welcome/app.email.queue.depth
+     */
+    @Test
+    void sendWelcomeEmail_dropsWhenQueueIsFull() throws InterruptedException {
+        // Given
+        CountDownLatch providerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            providerBusy.countDown();
+            release.await();
+            return null;
+        }).when(provider).sendWelcomeEmail(anyString(), anyString());
+        AsyncEmailProperties properties = new AsyncEmailProperties();
+        properties.setQueueCapacity(1);
+        properties.setOverflowPolicy(AsyncEmailProperties.OverflowPolicy.DROP);
+        adapter = new AsyncEmailServiceAdapter(provider, properties, new WorkerThreadFactory(false));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        adapter.bindTo(registry);
+
+        // When
+        adapter.sendWelcomeEmail("first@example.com", "First User");
+        assertTrue(providerBusy.await(2, TimeUnit.SECONDS));
+        adapter.sendWelcomeEmail("second@example.com", "Second User");
+        adapter.sendWelcomeEmail("third@example.com", "Third User");
+
+        // Then
+        assertEquals(1, adapter.queueDepth());
+        assertEquals(1, adapter.droppedCount());
+        assertEquals(1.0, registry.get(AsyncEmailServiceAdapter.QUEUE_DEPTH).gauge().value());
+        assertEquals(1.0, registry.get(AsyncEmailServiceAdapter.EMAILS).tag("outcome", "dropped").functionCounter().count());
+        assertNotNull(registry.get(AsyncEmailServiceAdapter.DISPATCH_LATENCY).tag("stat", "average").timeGauge());
+        release.countDown();
+    }
+
+    /**
+     * Test: sendWelcomeEmails_waitsForRoomInsteadOfDropping
+     * Descripción: Verifica que un batch de emails espere a que haya sitio en la cola aunque la política sea DROP.
+     * - Mocks: el proveedor bloquea el despachador hasta que se libera
+     * - Verifica: el batch no termina mientras la cola está llena, no se descarta ningún email y todos se envían
+     */
+    @Test
+    void sendWelcomeEmails_waitsForRoomInsteadOfDropping() throws InterruptedException {
+        // Given
+        CountDownLatch providerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            providerBusy.countDown();
+            release.await();
+            return null;
+        }).when(provider).sendWelcomeEmail(anyString(), anyString());
+        AsyncEmailProperties properties = new AsyncEmailProperties();
+        properties.setQueueCapacity(1);
+        properties.setOverflowPolicy(AsyncEmailProperties.OverflowPolicy.DROP);
+        adapter = new AsyncEmailServiceAdapter(provider, properties, new WorkerThreadFactory(false));
+        adapter.sendWelcomeEmail("first@example.com", "First User");
+        assertTrue(providerBusy.await(2, TimeUnit.SECONDS));
+
+        // When
+        Thread importer = new Thread(() -> adapter.sendWelcomeEmails(List.of(
+                user("second@example.com"), user("third@example.com"), user("fourth@example.com"))));
+        importer.start();
+        importer.join(300);
+
+        // Then
+        assertTrue(importer.isAlive());
+        release.countDown();
+        importer.join(2000);
+        assertFalse(importer.isAlive());
+        verify(provider, timeout(2000).times(4)).sendWelcomeEmail(anyString(), anyString());
+        assertEquals(0, adapter.droppedCount());
+    }
+
+    private static User user(String email) {
+        return new User(new Name("Batch User"), new EmailAddress(email));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.hexagonalapp.infrastructure.adapter.out;
+
+import com.example.hexagonalapp.application.service.UserApplicationService;
+import com.example.hexagonalapp.domain.model.domainexception.EmailAlreadyExistsException;
+import com.example.hexagonalapp.domain.service.UserDomainService;
+import com.example.hexagonalapp.infrastructure.persistence.config.PersistenceConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress test of the insert-and-catch create path against the real unique email index.
+ */
+@DataJpaTest
+@Import({JpaUserRepository.class, PersistenceConfig.class})
+// Every create commits on its own thread, as in production
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CreateUserConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 25;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'race%'");
+    }
+
+    /**
+     * Test: createUser_parallelDuplicatesCreateExactlyOne
+     * Descripción: Verifica que altas concurrentes con el mismo email creen un solo usuario y que las demás
+     * terminen en EmailAlreadyExistsException, sin errores de constraint sin traducir.
+     * - Datos: 25 rondas de 8 hilos que arrancan a la vez con el mismo email (en mayúsculas y minúsculas)
+     * - Verifica: por ronda 1 alta y 7 duplicados; una fila por email en la base de datos
+     */
+    @Test
+    void createUser_parallelDuplicatesCreateExactlyOne() throws Exception {
+        // Given
+        UserApplicationService service = new UserApplicationService(jpaUserRepository, (email, name) -> { },
+                new UserDomainService(), event -> { });
+
+        for (int round = 0; round < ROUNDS; round++) {
+            String email = "race" + round + "@example.com";
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> attempts = new ArrayList<>(THREADS);
+
+            // When
+            for (int thread = 0; thread < THREADS; thread++) {
+                String input = thread % 2 == 0 ? email : email.toUpperCase();
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        service.createUser("Racing User", input);
+                        return true;
+                    } catch (EmailAlreadyExistsException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            // Then: any other exception fails the test through get()
+            int created = 0;
+            for (Future<Boolean> attempt : attempts) {
+                if (attempt.get(10, TimeUnit.SECONDS)) {
+                    created++;
+                }
+            }
+            assertEquals(1, created, "Round " + round);
+        }
+        assertEquals(ROUNDS, jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT email) FROM users WHERE email LIKE 'race%'", Integer.class));
+        assertEquals(ROUNDS, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email LIKE 'race%'", Integer.class));
+    }
+}
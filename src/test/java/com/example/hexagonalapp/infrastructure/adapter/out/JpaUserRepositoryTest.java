@@ -0,0 +1,180 @@
+package com.example.hexagonalapp.infrastructure.adapter.out;
+
+import com.example.hexagonalapp.application.dto.UserSummary;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.Name;
+import com.example.hexagonalapp.infrastructure.persistence.config.PersistenceConfig;
+import com.example.hexagonalapp.infrastructure.persistence.id.UserIdSequenceAligner;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({JpaUserRepository.class, PersistenceConfig.class})
+class JpaUserRepositoryTest {
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Test: saveAll_assignsIdsFromSequenceBlock
+     * Descripción: Verifica que saveAll asigne IDs positivos y consecutivos tomados del mismo bloque
+     * reservado por el optimizador pooled-lo, en el mismo orden de entrada.
+     * - Verifica: IDs positivos, consecutivos y emails en orden
+     */
+    @Test
+    void saveAll_assignsIdsFromSequenceBlock() {
+        // Given
+        List<User> users = List.of(
+            new User(new Name("First User"), new EmailAddress("first@example.com")),
+            new User(new Name("Second User"), new EmailAddress("second@example.com")),
+            new User(new Name("Third User"), new EmailAddress("third@example.com")));
+
+        // When
+        List<User> saved = jpaUserRepository.saveAll(users);
+
+        // Then
+        assertEquals(3, saved.size());
+        long firstId = saved.get(0).getId().getValue();
+        assertTrue(firstId > 0);
+        assertEquals(firstId + 1, saved.get(1).getId().getValue());
+        assertEquals(firstId + 2, saved.get(2).getId().getValue());
+        assertEquals("third@example.com", saved.get(2).getEmail().getValue());
+    }
+
+    /**
+     * Test: align_restartsSequenceAfterExistingRows
+     * Descripción: Verifica que la migración desde IDENTITY reinicie la secuencia después del mayor ID existente.
+     * - Datos: fila insertada directamente con ID 1000
+     * - Verifica: la secuencia continúa en 1001
+     */
+    @Test
+    void align_restartsSequenceAfterExistingRows() {
+        // Given
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1000, 'Legacy User', 'legacy@example.com')");
+
+        // When
+        long next = new UserIdSequenceAligner(jdbcTemplate, 50).align();
+
+        // Then
+        assertEquals(1001L, next);
+        assertEquals(1001L, jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR users_seq", Long.class));
+    }
+
+    /**
+     * Test: align_resetsIncrementToAllocationSize
+     * Descripción: Verifica que la alineación ajuste el INCREMENT BY de una secuencia existente al tamaño de bloque.
+     * - Datos: secuencia users_seq creada por las migraciones con INCREMENT BY 50, alineada con bloques de 20
+     * - Verifica: dos valores consecutivos de la secuencia distan 20
+     */
+    @Test
+    void align_resetsIncrementToAllocationSize() {
+        try {
+            // When
+            long next = new UserIdSequenceAligner(jdbcTemplate, 20).align();
+
+            // Then
+            assertEquals(next, jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR users_seq", Long.class));
+            assertEquals(next + 20, jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR users_seq", Long.class));
+        } finally {
+            // Sequence changes are not rolled back with the test transaction; move past any block
+            // Hibernate may already hold so later inserts in this context cannot collide
+            jdbcTemplate.execute("ALTER SEQUENCE users_seq RESTART WITH 100000000 INCREMENT BY 50");
+        }
+    }
+
+    /**
+     * Test: findSummariesAfter_seeksPastLastSeenId
+     * Descripción: Verifica la paginación por clave: cada página empieza después del último ID visto, en orden.
+     * - Datos: cinco usuarios guardados en lote
+     * - Verifica: páginas disjuntas y ordenadas que cubren todos los usuarios
+     */
+    @Test
+    void findSummariesAfter_seeksPastLastSeenId() {
+        // Given
+        List<User> saved = jpaUserRepository.saveAll(List.of(
+            new User(new Name("User One"), new EmailAddress("page1@example.com")),
+            new User(new Name("User Two"), new EmailAddress("page2@example.com")),
+            new User(new Name("User Three"), new EmailAddress("page3@example.com")),
+            new User(new Name("User Four"), new EmailAddress("page4@example.com")),
+            new User(new Name("User Five"), new EmailAddress("page5@example.com"))));
+        long beforeFirst = saved.get(0).getId().getValue() - 1;
+
+        // When
+        List<UserSummary> firstPage = jpaUserRepository.findSummariesAfter(beforeFirst, 3);
+        List<UserSummary> secondPage = jpaUserRepository.findSummariesAfter(firstPage.get(2).getId(), 3);
+
+        // Then
+        assertEquals(List.of("page1@example.com", "page2@example.com", "page3@example.com"),
+            firstPage.stream().map(UserSummary::getEmail).toList());
+        assertEquals(List.of("page4@example.com", "page5@example.com"),
+            secondPage.stream().map(UserSummary::getEmail).toList());
+        assertEquals("User Four", secondPage.get(0).getName());
+    }
+
+    /**
+     * Test: findAllById_chunksLargeIdLists
+     * Descripción: Verifica que una lista de IDs mayor que el tamaño de chunk del IN se consulte por partes
+     * y que los IDs desconocidos o repetidos no afecten el resultado.
+     * - Datos: tres usuarios guardados y más IDs inexistentes que el tamaño de chunk
+     * - Verifica: se devuelven exactamente los tres usuarios guardados
+     */
+    @Test
+    void findAllById_chunksLargeIdLists() {
+        // Given
+        List<User> saved = jpaUserRepository.saveAll(List.of(
+            new User(new Name("User One"), new EmailAddress("multi1@example.com")),
+            new User(new Name("User Two"), new EmailAddress("multi2@example.com")),
+            new User(new Name("User Three"), new EmailAddress("multi3@example.com"))));
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1_000_000; id < 1_000_000 + 2L * JpaUserRepository.IN_LIST_CHUNK_SIZE; id++) {
+            ids.add(id);
+        }
+        for (User user : saved) {
+            ids.add(user.getId().getValue());
+            ids.add(user.getId().getValue());
+        }
+
+        // When
+        List<User> found = jpaUserRepository.findAllById(ids);
+
+        // Then
+        assertEquals(Set.of("multi1@example.com", "multi2@example.com", "multi3@example.com"),
+            found.stream().map(user -> user.getEmail().getValue()).collect(Collectors.toSet()));
+        assertEquals(3, found.size());
+    }
+
+    /**
+     * Test: findByEmail_matchesNormalizedEmail
+     * Descripción: Verifica que la búsqueda por email encuentre al usuario guardado por su email normalizado.
+     * - Verifica: el email en mayúsculas encuentra al usuario y un email desconocido retorna vacío
+     */
+    @Test
+    void findByEmail_matchesNormalizedEmail() {
+        // Given
+        User saved = jpaUserRepository.save(new User(new Name("Mail User"), new EmailAddress("Mail.User@Example.com")));
+
+        // When
+        Optional<User> found = jpaUserRepository.findByEmail(new EmailAddress("MAIL.USER@example.com"));
+        Optional<User> missing = jpaUserRepository.findByEmail(new EmailAddress("nobody@example.com"));
+
+        // Then
+        assertEquals(saved.getId(), found.orElseThrow().getId());
+        assertEquals("mail.user@example.com", found.get().getEmail().getValue());
+        assertTrue(missing.isEmpty());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.hexagonalapp.infrastructure.adapter.out;
+
+import com.example.hexagonalapp.infrastructure.persistence.migration.DropLegacyEmailConstraints;
+import com.example.hexagonalapp.infrastructure.persistence.migration.SchemaMigrator;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UniqueEmailViolationTest {
+
+    /**
+     * Test: isEmailViolation_recognizesEmailIndexByStateAndName
+     * Descripción: Verifica que un email duplicado se reconozca por SQLState 23505 y el nombre del índice,
+     * tanto por JPA (nombre extraído por Hibernate) como por R2DBC (mensaje del driver).
+     * - Datos: excepciones reales de H2 sobre el esquema migrado
+     * - Verifica: el email duplicado es conflicto; la clave primaria duplicada y el NOT NULL no lo son
+     */
+    @Test
+    void isEmailViolation_recognizesEmailIndexByStateAndName() throws Exception {
+        // Given
+        DataSource migrated = new DriverManagerDataSource("jdbc:h2:mem:violation-migrated;DB_CLOSE_DELAY=-1", "sa", "");
+        new SchemaMigrator(migrated, new PathMatchingResourcePatternResolver(), "classpath:db/migration").migrate();
+        execute(migrated, "INSERT INTO users (id, name, email) VALUES (1, 'First', 'same@example.com')");
+
+        // When
+        SQLException emailClash = failure(migrated, "INSERT INTO users (id, name, email) VALUES (2, 'Second', 'same@example.com')");
+        SQLException idClash = failure(migrated, "INSERT INTO users (id, name, email) VALUES (1, 'Third', 'other@example.com')");
+        SQLException missingName = failure(migrated, "INSERT INTO users (id, email) VALUES (3, 'third@example.com')");
+
+        // Then
+        assertTrue(UniqueEmailViolation.isEmailViolation(jpa(emailClash)));
+        assertTrue(UniqueEmailViolation.isEmailViolation(r2dbc(emailClash)));
+        assertFalse(UniqueEmailViolation.isEmailViolation(jpa(idClash)));
+        assertFalse(UniqueEmailViolation.isEmailViolation(r2dbc(idClash)));
+        assertFalse(UniqueEmailViolation.isEmailViolation(jpa(missingName)));
+    }
+
+    /**
+     * Test: isEmailViolation_afterMigratingHibernateSchema
+     * Descripción: Verifica que en una base creada por Hibernate antes de las migraciones, una vez migrada,
+     * el duplicado lo rechace ux_users_email y se reconozca como conflicto de email.
+     * - Datos: tabla users con la DDL de Hibernate para @Column(unique = true), migrada con la versión 3
+     * - Verifica: el email duplicado es conflicto por JPA y por R2DBC
+     */
+    @Test
+    void isEmailViolation_afterMigratingHibernateSchema() throws Exception {
+        // Given
+        DataSource legacy = new DriverManagerDataSource("jdbc:h2:mem:violation-legacy;DB_CLOSE_DELAY=-1", "sa", "");
+        execute(legacy, "create table users (id bigint not null, email varchar(255) not null unique, "
+                + "name varchar(255) not null, primary key (id))");
+        new SchemaMigrator(legacy, new PathMatchingResourcePatternResolver(), "classpath:db/migration",
+                List.of(new DropLegacyEmailConstraints())).migrate();
+        execute(legacy, "INSERT INTO users (id, name, email) VALUES (1, 'First', 'same@example.com')");
+
+        // When
+        SQLException emailClash = failure(legacy, "INSERT INTO users (id, name, email) VALUES (2, 'Second', 'same@example.com')");
+
+        // Then
+        assertTrue(UniqueEmailViolation.isEmailViolation(jpa(emailClash)));
+        assertTrue(UniqueEmailViolation.isEmailViolation(r2dbc(emailClash)));
+    }
+
+    // Shaped like Spring's translation of a Hibernate ConstraintViolationException on the JPA path
+    private static DataIntegrityViolationException jpa(SQLException e) {
+        String constraintName = new H2Dialect().getViolatedConstraintNameExtractor().extractConstraintName(e);
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", e, "insert into users", constraintName));
+    }
+
+    // Shaped like Spring's translation of an R2DBC driver exception
+    private static DataIntegrityViolationException r2dbc(SQLException e) {
+        return new DataIntegrityViolationException("insert failed",
+                new R2dbcDataIntegrityViolationException(e.getMessage(), e.getSQLState(), e.getErrorCode()));
+    }
+
+    private static void execute(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static SQLException failure(DataSource dataSource, String sql) {
+        return assertThrows(SQLException.class, () -> execute(dataSource, sql));
+    }
+}
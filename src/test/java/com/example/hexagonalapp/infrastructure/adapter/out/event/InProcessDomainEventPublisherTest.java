@@ -0,0 +1,212 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.event;
+
+import com.example.hexagonalapp.domain.model.domainevent.DomainEvent;
+import com.example.hexagonalapp.infrastructure.adapter.config.WorkerThreadFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InProcessDomainEventPublisherTest {
+
+    private InProcessDomainEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        publisher.shutdown();
+    }
+
+    /**
+     * Test: publish_keepsOrderPerAggregate
+     * Descripción: Verifica que con varios hilos publicando, cada agregado reciba sus eventos en orden.
+     * - Datos: 4 hilos publican cada uno 1000 eventos de su propio agregado
+     * - Verifica: todos los eventos llegan y la secuencia de cada agregado es creciente
+     */
+    @Test
+    void publish_keepsOrderPerAggregate() throws InterruptedException {
+        // Given
+        int aggregates = 4;
+        int eventsPerAggregate = 1000;
+        CountDownLatch delivered = new CountDownLatch(aggregates * eventsPerAggregate);
+        Map<Long, List<Integer>> received = new ConcurrentHashMap<>();
+        DomainEventSubscriber subscriber = event -> {
+            SequencedEvent sequenced = (SequencedEvent) event;
+            received.computeIfAbsent(sequenced.aggregateId, id -> new ArrayList<>()).add(sequenced.sequence);
+            delivered.countDown();
+        };
+        publisher = new InProcessDomainEventPublisher(List.of(subscriber), new DomainEventProperties(), new WorkerThreadFactory(false));
+
+        // When
+        List<Thread> producers = new ArrayList<>();
+        for (long aggregate = 1; aggregate <= aggregates; aggregate++) {
+            long aggregateId = aggregate;
+            Thread producer = new Thread(() -> {
+                for (int sequence = 0; sequence < eventsPerAggregate; sequence++) {
+                    publisher.publish(new SequencedEvent(aggregateId, sequence));
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        // Then
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        for (List<Integer> sequences : received.values()) {
+            for (int i = 0; i < sequences.size(); i++) {
+                assertEquals(i, sequences.get(i));
+            }
+        }
+        assertEquals(0, publisher.droppedCount());
+    }
+
+    /**
+     * Test: publish_dropsInsteadOfBlockingWhenLaneIsFull
+     * Descripción: Verifica que publicar nunca bloquee: si el carril está lleno el evento se descarta.
+     * - Datos: un carril de capacidad 1 y un suscriptor bloqueado
+     * - Verifica: el tercer evento se cuenta como descartado
+     */
+    @Test
+    void publish_dropsInsteadOfBlockingWhenLaneIsFull() throws InterruptedException {
+        // Given
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        DomainEventSubscriber subscriber = event -> {
+            busy.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        DomainEventProperties properties = new DomainEventProperties();
+        properties.setLanesPerSubscriber(1);
+        properties.setLaneCapacity(1);
+        publisher = new InProcessDomainEventPublisher(List.of(subscriber), properties, new WorkerThreadFactory(false));
+
+        // When
+        publisher.publish(new SequencedEvent(1L, 0));
+        assertTrue(busy.await(2, TimeUnit.SECONDS));
+        publisher.publish(new SequencedEvent(1L, 1));
+        publisher.publish(new SequencedEvent(1L, 2));
+
+        // Then
+        assertEquals(1, publisher.droppedCount());
+        release.countDown();
+    }
+
+    /**
+     * Test: publishAll_waitsForRoomInsteadOfDropping
+     * Descripción: Verifica que un batch de eventos espere a que el carril tenga sitio en lugar de descartar.
+     * - Datos: un carril de capacidad 1 y un suscriptor bloqueado hasta que se libera
+     * - Verifica: el batch no termina mientras el carril está lleno, no se descarta nada y todos los eventos llegan
+     */
+    @Test
+    void publishAll_waitsForRoomInsteadOfDropping() throws InterruptedException {
+        // Given
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(4);
+        DomainEventSubscriber subscriber = event -> {
+            busy.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivered.countDown();
+        };
+        DomainEventProperties properties = new DomainEventProperties();
+        properties.setLanesPerSubscriber(1);
+        properties.setLaneCapacity(1);
+        publisher = new InProcessDomainEventPublisher(List.of(subscriber), properties, new WorkerThreadFactory(false));
+        publisher.publish(new SequencedEvent(1L, 0));
+        assertTrue(busy.await(2, TimeUnit.SECONDS));
+
+        // When
+        Thread importer = new Thread(() -> publisher.publishAll(List.of(
+                new SequencedEvent(1L, 1), new SequencedEvent(1L, 2), new SequencedEvent(1L, 3))));
+        importer.start();
+        importer.join(300);
+
+        // Then
+        assertTrue(importer.isAlive());
+        release.countDown();
+        assertTrue(delivered.await(2, TimeUnit.SECONDS));
+        importer.join(2000);
+        assertFalse(importer.isAlive());
+        assertEquals(0, publisher.droppedCount());
+    }
+
+    /**
+     * Test: bindTo_exportsPublishedDroppedAndFailedCounts
+     * Descripción: Verifica que los contadores del publicador se expongan como métricas.
+     * - Datos: un suscriptor que falla con cada evento y dos eventos publicados
+     * - Verifica: publicados, descartados, fallos por suscriptor y eventos pendientes en el registro
+     */
+    @Test
+    void bindTo_exportsPublishedDroppedAndFailedCounts() throws InterruptedException {
+        // Given
+        CountDownLatch attempted = new CountDownLatch(2);
+        DomainEventSubscriber subscriber = new FailingSubscriber(attempted);
+        publisher = new InProcessDomainEventPublisher(List.of(subscriber), new DomainEventProperties(), new WorkerThreadFactory(false));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        publisher.bindTo(registry);
+
+        // When
+        publisher.publish(new SequencedEvent(1L, 0));
+        publisher.publish(new SequencedEvent(2L, 0));
+        assertTrue(attempted.await(2, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (publisher.failedCount() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertEquals(2.0, registry.get(InProcessDomainEventPublisher.PUBLISHED).functionCounter().count());
+        assertEquals(0.0, registry.get(InProcessDomainEventPublisher.DROPPED).functionCounter().count());
+        assertEquals(2.0, registry.get(InProcessDomainEventPublisher.FAILED)
+                .tag("subscriber", "FailingSubscriber").functionCounter().count());
+        assertEquals(0.0, registry.get(InProcessDomainEventPublisher.PENDING)
+                .tag("subscriber", "FailingSubscriber").gauge().value());
+    }
+
+    private static final class FailingSubscriber implements DomainEventSubscriber {
+        private final CountDownLatch attempted;
+
+        private FailingSubscriber(CountDownLatch attempted) {
+            this.attempted = attempted;
+        }
+
+        @Override
+        public void onEvent(DomainEvent event) {
+            attempted.countDown();
+            throw new IllegalStateException("subscriber down");
+        }
+    }
+
+    private static final class SequencedEvent implements DomainEvent {
+        private final Long aggregateId;
+        private final int sequence;
+
+        private SequencedEvent(Long aggregateId, int sequence) {
+            this.aggregateId = aggregateId;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public Object getAggregateId() {
+            return aggregateId;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.metrics;
+
+import com.example.hexagonalapp.application.port.out.UserRepository;
+import com.example.hexagonalapp.application.service.CoalescingUserRepository;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.Name;
+import com.example.hexagonalapp.domain.model.valueobject.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CoalescingMetricsTest {
+
+    /**
+     * Test: bindTo_exportsCoalescingStatistics
+     * Descripción: Verifica que los contadores de la coalescencia de lecturas se publiquen como métricas de Micrometer.
+     * - Datos: dos lecturas concurrentes del mismo ID que comparten una sola consulta
+     * - Verifica: app.user.coalescing.lookups por resultado, app.user.coalescing.queries y el ratio
+     */
+    @Test
+    void bindTo_exportsCoalescingStatistics() throws Exception {
+        // Given
+        UserRepository delegate = mock(UserRepository.class);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(user(1L));
+        });
+        CoalescingUserRepository repository = new CoalescingUserRepository(delegate);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new CoalescingMetrics(repository).bindTo(registry);
+
+        // When
+        CompletableFuture<Optional<User>> first = CompletableFuture.supplyAsync(() -> repository.findById(1L));
+        CompletableFuture<Optional<User>> second = CompletableFuture.supplyAsync(() -> repository.findById(1L));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (repository.coalescedLookupCount() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(2.0, registry.get(CoalescingMetrics.LOOKUPS).tag("result", "all").functionCounter().count());
+        assertEquals(1.0, registry.get(CoalescingMetrics.LOOKUPS).tag("result", "coalesced").functionCounter().count());
+        assertEquals(1.0, registry.get(CoalescingMetrics.QUERIES).functionCounter().count());
+        assertEquals(0.5, registry.get(CoalescingMetrics.RATIO).gauge().value(), 1e-9);
+    }
+
+    private static User user(Long id) {
+        User user = new User(new Name("Hot User"), new EmailAddress("hot@example.com"));
+        user.setId(new UserId(id));
+        return user;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.metrics;
+
+import com.example.hexagonalapp.application.port.out.UserRepository;
+import com.example.hexagonalapp.application.service.BloomFilteredUserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmailFilterMetricsTest {
+
+    /**
+     * Test: bindTo_exportsFilterHealth
+     * Descripción: Verifica que el tamaño, las tasas de falsos positivos y los contadores de consultas del filtro
+     * de emails se publiquen como métricas de Micrometer.
+     * - Datos: filtro reconstruido con dos emails; una consulta filtrada y una que llega a la base de datos
+     * - Verifica: app.email.filter.entries, lookups por resultado y tasas esperada y observada
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void bindTo_exportsFilterHealth() {
+        // Given
+        UserRepository delegate = mock(UserRepository.class);
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(0);
+            action.accept("one@example.com");
+            action.accept("two@example.com");
+            return null;
+        }).when(delegate).forEachEmail(any(Consumer.class));
+        when(delegate.existsByEmail("one@example.com")).thenReturn(true);
+        BloomFilteredUserRepository filter = new BloomFilteredUserRepository(delegate, 1000, 0.01);
+        filter.rebuild();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new EmailFilterMetrics(filter).bindTo(registry);
+
+        // When
+        filter.existsByEmail("one@example.com");
+        filter.existsByEmail("unknown@example.com");
+
+        // Then
+        assertEquals(2.0, registry.get(EmailFilterMetrics.ENTRIES).gauge().value());
+        assertEquals(1.0, registry.get(EmailFilterMetrics.LOOKUPS).tag("result", "database").functionCounter().count());
+        assertEquals(1.0, registry.get(EmailFilterMetrics.LOOKUPS).tag("result", "filtered").functionCounter().count());
+        assertEquals(0.0, registry.get(EmailFilterMetrics.FALSE_POSITIVE_RATE).tag("kind", "observed").gauge().value());
+        double expected = registry.get(EmailFilterMetrics.FALSE_POSITIVE_RATE).tag("kind", "expected").gauge().value();
+        assertTrue(expected > 0 && expected < 0.01, "expected rate " + expected);
+        assertNotNull(registry.get(EmailFilterMetrics.REBUILD_DURATION).timeGauge());
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.metrics;
+
+import com.example.hexagonalapp.application.port.out.PortMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicrometerPortMetricsTest {
+
+    /**
+     * Test: timer_tagsByOutcomeAndCountsErrorsByException
+     * Descripción: Verifica que cada operación tenga un timer por resultado y un contador de errores por tipo de excepción.
+     * - Datos: una llamada exitosa y una fallida de UserRepository.findById
+     * - Verifica: ambos timers registrados de antemano, una medición en cada uno y el contador de errores con la excepción
+     */
+    @Test
+    void timer_tagsByOutcomeAndCountsErrorsByException() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PortMetrics.OperationTimer timer = new MicrometerPortMetrics(registry).timer("UserRepository", "findById");
+        Timer success = registry.get(MicrometerPortMetrics.CALLS).tag("operation", "findById").tag("outcome", "success").timer();
+        Timer error = registry.get(MicrometerPortMetrics.CALLS).tag("operation", "findById").tag("outcome", "error").timer();
+        assertEquals(0, error.count());
+
+        // When
+        timer.recordSuccess(TimeUnit.MILLISECONDS.toNanos(3));
+        timer.recordFailure(TimeUnit.MILLISECONDS.toNanos(7), new IllegalStateException("Database unavailable"));
+
+        // Then
+        assertEquals(1, success.count());
+        assertEquals(3.0, success.totalTime(TimeUnit.MILLISECONDS), 1e-9);
+        assertEquals(1, error.count());
+        assertEquals(1.0, registry.get(MicrometerPortMetrics.ERRORS)
+                .tag("port", "UserRepository")
+                .tag("exception", "IllegalStateException")
+                .counter().count());
+    }
+}
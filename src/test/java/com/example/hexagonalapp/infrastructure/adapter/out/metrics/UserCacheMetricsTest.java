@@ -0,0 +1,59 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.metrics;
+
+import com.example.hexagonalapp.application.port.out.UserRepository;
+import com.example.hexagonalapp.application.service.CachingUserRepository;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.Name;
+import com.example.hexagonalapp.domain.model.valueobject.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserCacheMetricsTest {
+
+    /**
+     * Test: bindTo_exportsCacheStatistics
+     * Descripción: Verifica que los contadores de la caché de usuarios se publiquen como métricas cache.* de Micrometer.
+     * - Datos: caché de tamaño 1 con un acierto, dos fallos, una evicción por tamaño y una expiración por TTL
+     * - Verifica: cache.gets por resultado, cache.evictions, cache.expirations y cache.size con cache=users
+     */
+    @Test
+    void bindTo_exportsCacheStatistics() {
+        // Given
+        UserRepository delegate = mock(UserRepository.class);
+        when(delegate.findById(any())).thenAnswer(invocation -> Optional.of(user(invocation.getArgument(0))));
+        AtomicLong clock = new AtomicLong();
+        CachingUserRepository cache = new CachingUserRepository(delegate, 1, Duration.ofSeconds(10), clock::incrementAndGet);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new UserCacheMetrics(cache).bindTo(registry);
+
+        // When
+        cache.findById(1L);
+        cache.findById(1L);
+        cache.findById(2L);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        cache.findById(2L);
+
+        // Then
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "users").tag("result", "hit").functionCounter().count());
+        assertEquals(3.0, registry.get("cache.gets").tag("cache", "users").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.evictions").tag("cache", "users").functionCounter().count());
+        assertEquals(1.0, registry.get(UserCacheMetrics.EXPIRATIONS).tag("cache", "users").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.size").tag("cache", "users").gauge().value());
+    }
+
+    private static User user(Long id) {
+        User user = new User(new Name("Cached User"), new EmailAddress("user" + id + "@example.com"));
+        user.setId(new UserId(id));
+        return user;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.hexagonalapp.infrastructure.adapter.out.outbox;
+
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.Name;
+import com.example.hexagonalapp.infrastructure.adapter.out.JpaUserRepository;
+import com.example.hexagonalapp.infrastructure.persistence.config.PersistenceConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({JpaUserRepository.class, PersistenceConfig.class, OutboxConfig.class})
+@TestPropertySource(properties = {"app.outbox.enabled=true", "app.outbox.poll-interval-millis=3600000"})
+class OutboxRelayTest {
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private SpringDataOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Test: relayBatch_deliversEventsWrittenWithUsers
+     * Descripción: Verifica que save y saveAll escriban una fila de outbox por usuario creado en la misma
+     * transacción, y que el relay las entregue en lotes y las marque como entregadas en bloque.
+     * - Datos: 3 usuarios creados, lotes de 2
+     * - Verifica: primer lote de 2, segundo de 1, tercero vacío; payload con el email
+     */
+    @Test
+    void relayBatch_deliversEventsWrittenWithUsers() {
+        // Given
+        jpaUserRepository.save(new User(new Name("First User"), new EmailAddress("first@example.com")));
+        jpaUserRepository.saveAll(List.of(
+            new User(new Name("Second User"), new EmailAddress("second@example.com")),
+            new User(new Name("Third User"), new EmailAddress("third@example.com"))));
+        List<OutboxMessage> sink = new ArrayList<>();
+        OutboxProperties properties = new OutboxProperties();
+        properties.setBatchSize(2);
+        OutboxRelay relay = new OutboxRelay(outboxRepository, new TransactionTemplate(transactionManager),
+            sink::addAll, properties, Clock.systemUTC());
+
+        // When
+        int first = relay.relayBatch();
+        int second = relay.relayBatch();
+        int third = relay.relayBatch();
+
+        // Then
+        assertEquals(2, first);
+        assertEquals(1, second);
+        assertEquals(0, third);
+        assertEquals(3, sink.size());
+        assertEquals(OutboxWriter.USER_CREATED, sink.get(0).getEventType());
+        assertTrue(sink.get(0).getPayload().contains("first@example.com"));
+        assertTrue(outboxRepository.findAll().stream().allMatch(event -> event.getDeliveredAt() != null));
+        assertEquals(3, relay.relayedCount());
+    }
+
+    /**
+     * Test: purgeBatch_deletesDeliveredEventsPastRetention
+     * Descripción: Verifica que la purga borre por lotes solo los eventos entregados hace más que la retención,
+     * y que el retraso y los contadores del relay se publiquen como métricas.
+     * - Datos: 3 eventos entregados, 1 pendiente; purga 8 días después con retención de 7 y lotes de 2
+     * - Verifica: lotes de 2 y 1, el evento pendiente se conserva; app.outbox.events y app.outbox.lag registrados
+     */
+    @Test
+    void purgeBatch_deletesDeliveredEventsPastRetention() {
+        // Given
+        jpaUserRepository.saveAll(List.of(
+            new User(new Name("First User"), new EmailAddress("purge1@example.com")),
+            new User(new Name("Second User"), new EmailAddress("purge2@example.com")),
+            new User(new Name("Third User"), new EmailAddress("purge3@example.com"))));
+        OutboxProperties properties = new OutboxProperties();
+        properties.setBatchSize(10);
+        properties.setPurgeBatchSize(2);
+        new OutboxRelay(outboxRepository, new TransactionTemplate(transactionManager), messages -> { },
+            properties, Clock.systemUTC()).relayBatch();
+        jpaUserRepository.save(new User(new Name("Pending User"), new EmailAddress("pending@example.com")));
+        OutboxRelay later = new OutboxRelay(outboxRepository, new TransactionTemplate(transactionManager), messages -> { },
+            properties, Clock.offset(Clock.systemUTC(), Duration.ofDays(8)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        later.bindTo(registry);
+
+        // When
+        int first = later.purgeBatch();
+        int second = later.purgeBatch();
+        int third = later.purgeBatch();
+
+        // Then
+        assertEquals(2, first);
+        assertEquals(1, second);
+        assertEquals(0, third);
+        assertEquals(1, outboxRepository.count());
+        assertNull(outboxRepository.findAll().get(0).getDeliveredAt());
+        assertEquals(3.0, registry.get(OutboxRelay.EVENTS).tag("outcome", "purged").functionCounter().count());
+        assertEquals(0.0, registry.get(OutboxRelay.EVENTS).tag("outcome", "relayed").functionCounter().count());
+        assertNotNull(registry.get(OutboxRelay.LAG).timeGauge());
+    }
+}
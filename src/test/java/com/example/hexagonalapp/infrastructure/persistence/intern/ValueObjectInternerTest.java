@@ -0,0 +1,84 @@
+package com.example.hexagonalapp.infrastructure.persistence.intern;
+
+import com.example.hexagonalapp.domain.model.valueobject.EmailAddress;
+import com.example.hexagonalapp.domain.model.valueobject.Name;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValueObjectInternerTest {
+
+    /**
+     * Test: email_reusesInstanceForRepeatedValue
+     * Descripción: Verifica que lecturas repetidas del mismo valor devuelvan la misma instancia.
+     * - Mocks: ninguno
+     * - Verifica: misma instancia, valor intacto, un miss y un hit por tipo, también en las métricas
+     */
+    @Test
+    void email_reusesInstanceForRepeatedValue() {
+        // Given
+        ValueObjectInterner interner = new ValueObjectInterner(16);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        interner.bindTo(registry);
+
+        // When
+        EmailAddress first = interner.email("hot@example.com");
+        EmailAddress second = interner.email(new String("hot@example.com"));
+        Name firstName = interner.name("Hot User");
+        Name secondName = interner.name(new String("Hot User"));
+
+        // Then
+        assertSame(first, second);
+        assertSame(firstName, secondName);
+        assertEquals("hot@example.com", second.getValue());
+        assertEquals(2, interner.missCount());
+        assertEquals(2, interner.hitCount());
+        assertEquals(2.0, registry.get(ValueObjectInterner.LOOKUPS).tag("result", "hit").functionCounter().count());
+        assertEquals(2.0, registry.get(ValueObjectInterner.LOOKUPS).tag("result", "miss").functionCounter().count());
+    }
+
+    /**
+     * Test: email_staysBoundedAndCorrectOnCollisions
+     * Descripción: Verifica que con una tabla mínima los valores que colisionan se reemplacen sin mezclar resultados.
+     * - Mocks: ninguno
+     * - Verifica: capacidad fija y cada consulta devuelve su propio valor
+     */
+    @Test
+    void email_staysBoundedAndCorrectOnCollisions() {
+        // Given
+        ValueObjectInterner interner = new ValueObjectInterner(1);
+
+        // When / Then
+        for (int i = 0; i < 100; i++) {
+            String value = "user" + (i % 3) + "@example.com";
+            assertEquals(value, interner.email(value).getValue());
+        }
+        assertEquals(1, interner.capacity());
+    }
+
+    /**
+     * Test: disabled_buildsTrustedInstancesWithoutCaching
+     * Descripción: Verifica que con capacidad 0 no se reutilicen instancias ni se cuenten accesos.
+     * - Mocks: ninguno
+     * - Verifica: instancias distintas e iguales por valor, contadores a cero y sin métricas registradas
+     */
+    @Test
+    void disabled_buildsTrustedInstancesWithoutCaching() {
+        // Given
+        ValueObjectInterner interner = new ValueObjectInterner(0);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        interner.bindTo(registry);
+
+        // When
+        EmailAddress first = interner.email("cold@example.com");
+        EmailAddress second = interner.email("cold@example.com");
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        assertFalse(interner.isEnabled());
+        assertEquals(0, interner.hitCount() + interner.missCount());
+        assertNull(registry.find(ValueObjectInterner.LOOKUPS).functionCounter());
+    }
+}
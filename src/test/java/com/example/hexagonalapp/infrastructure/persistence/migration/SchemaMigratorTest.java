@@ -0,0 +1,205 @@
+package com.example.hexagonalapp.infrastructure.persistence.migration;
+
+import com.example.hexagonalapp.infrastructure.persistence.config.PersistenceConfig;
+import com.example.hexagonalapp.infrastructure.persistence.migration.SchemaIndexVerifier.ExpectedIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class SchemaMigratorTest {
+
+    @Autowired
+    private SchemaMigrator schemaMigrator;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Test: migrate_appliesEachVersionOnce
+     * Descripción: Verifica que las migraciones se apliquen al arrancar y que una segunda ejecución no repita ninguna.
+     * - Verifica: versiones 1, 2 y 3 registradas en schema_version y ninguna aplicada de nuevo
+     */
+    @Test
+    void migrate_appliesEachVersionOnce() {
+        // Given: the context already migrated the database on startup
+
+        // When
+        List<Integer> applied = schemaMigrator.migrate();
+
+        // Then
+        assertTrue(applied.isEmpty());
+        assertEquals(List.of(1, 2, 3), jdbcTemplate.queryForList(
+                "SELECT version FROM " + SchemaMigrator.HISTORY_TABLE + " ORDER BY version", Integer.class));
+    }
+
+    /**
+     * Test: migrate_dropsLegacyEmailConstraint
+     * Descripción: Verifica que una base creada por Hibernate (ddl-auto) antes de las migraciones quede solo con el
+     * índice ux_users_email como restricción de unicidad del email.
+     * - Datos: tabla users con la DDL que genera Hibernate para @Column(unique = true)
+     * - Verifica: la restricción UNIQUE con nombre generado desaparece y un duplicado lo rechaza ux_users_email
+     */
+    @Test
+    void migrate_dropsLegacyEmailConstraint() {
+        // Given
+        DataSource legacy = new DriverManagerDataSource("jdbc:h2:mem:migrate-legacy;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate legacyJdbcTemplate = new JdbcTemplate(legacy);
+        legacyJdbcTemplate.execute("create table users (id bigint not null, email varchar(255) not null unique, "
+                + "name varchar(255) not null, primary key (id))");
+
+        // When
+        List<Integer> applied = new SchemaMigrator(legacy, new PathMatchingResourcePatternResolver(), "classpath:db/migration",
+                List.of(new DropLegacyEmailConstraints())).migrate();
+
+        // Then
+        assertEquals(List.of(1, 2, 3), applied);
+        assertEquals(0, legacyJdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.table_constraints "
+                + "WHERE table_name = 'USERS' AND constraint_type = 'UNIQUE'", Integer.class));
+        legacyJdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1, 'First', 'same@example.com')");
+        DataIntegrityViolationException duplicate = assertThrows(DataIntegrityViolationException.class, () ->
+                legacyJdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (2, 'Second', 'same@example.com')"));
+        assertTrue(duplicate.getMessage().toLowerCase().contains("ux_users_email"), duplicate.getMessage());
+    }
+
+    /**
+     * Test: migrate_concurrentInstancesApplyEachVersionOnce
+     * Descripción: Verifica que varias instancias arrancando a la vez contra la misma base de datos migren por turnos.
+     * - Datos: cuatro migradores sobre una base de datos H2 vacía, lanzados a la vez
+     * - Verifica: ninguno falla, cada versión la aplica uno solo y el historial queda con las versiones 1 y 2
+     */
+    @Test
+    void migrate_concurrentInstancesApplyEachVersionOnce() throws Exception {
+        // Given
+        DataSource fresh = new DriverManagerDataSource("jdbc:h2:mem:migrate-concurrent;DB_CLOSE_DELAY=-1", "sa", "");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Integer>>> results = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return new SchemaMigrator(fresh, new PathMatchingResourcePatternResolver(), "classpath:db/migration").migrate();
+                }));
+            }
+            start.countDown();
+            List<Integer> applied = new ArrayList<>();
+            for (Future<List<Integer>> result : results) {
+                applied.addAll(result.get(30, TimeUnit.SECONDS));
+            }
+
+            // Then
+            applied.sort(null);
+            assertEquals(List.of(1, 2), applied);
+            assertEquals(List.of(1, 2), new JdbcTemplate(fresh).queryForList(
+                    "SELECT version FROM " + SchemaMigrator.HISTORY_TABLE + " ORDER BY version", Integer.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test: migrate_waitsForLockHeldByAnotherInstance
+     * Descripción: Verifica que una migración espere mientras otra instancia tiene el bloqueo de migraciones.
+     * - Datos: una conexión que mantiene SELECT ... FOR UPDATE sobre schema_version_lock
+     * - Verifica: la migración no termina hasta que la conexión libera el bloqueo
+     */
+    @Test
+    void migrate_waitsForLockHeldByAnotherInstance() throws Exception {
+        // Given
+        DataSource fresh = new DriverManagerDataSource("jdbc:h2:mem:migrate-locked;DB_CLOSE_DELAY=-1", "sa", "");
+        new SchemaMigrator(fresh, new PathMatchingResourcePatternResolver(), "classpath:db/migration").migrate();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (Connection holder = fresh.getConnection()) {
+            holder.setAutoCommit(false);
+            holder.createStatement().executeQuery("SELECT id FROM " + SchemaMigrator.LOCK_TABLE + " WHERE id = 1 FOR UPDATE");
+
+            // When
+            Future<List<Integer>> migration = executor.submit(() ->
+                    new SchemaMigrator(fresh, new PathMatchingResourcePatternResolver(), "classpath:db/migration").migrate());
+
+            // Then
+            assertThrows(TimeoutException.class, () -> migration.get(500, TimeUnit.MILLISECONDS));
+            holder.rollback();
+            assertEquals(List.of(), migration.get(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test: emailIndex_rejectsDuplicatesAndUppercase
+     * Descripción: Verifica que el esquema migrado imponga emails únicos y normalizados en minúsculas.
+     * - Verifica: un email duplicado y uno con mayúsculas son rechazados por la base de datos
+     */
+    @Test
+    void emailIndex_rejectsDuplicatesAndUppercase() {
+        // Given
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1001, 'First', 'same@example.com')");
+
+        // When & Then
+        assertThrows(DataIntegrityViolationException.class, () ->
+                jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1002, 'Second', 'same@example.com')"));
+        assertThrows(DataIntegrityViolationException.class, () ->
+                jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1003, 'Third', 'Upper@Example.com')"));
+    }
+
+    /**
+     * Test: emailLookup_usesUniqueEmailIndex
+     * Descripción: Verifica que la consulta de existsByEmail se resuelva con el índice único de email y no con un recorrido de tabla.
+     * - Verifica: el plan de H2 usa UX_USERS_EMAIL
+     */
+    @Test
+    void emailLookup_usesUniqueEmailIndex() {
+        // When
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT u.id FROM users u WHERE u.email = ? FETCH FIRST 1 ROWS ONLY", String.class, "x@example.com");
+
+        // Then
+        assertTrue(plan.contains("UX_USERS_EMAIL: EMAIL = ?1"), plan);
+    }
+
+    /**
+     * Test: verify_failsWhenIndexIsMissing
+     * Descripción: Verifica que la comprobación de arranque detecte un índice esperado que no existe.
+     * - Verifica: los índices migrados pasan la comprobación y uno inexistente produce IllegalStateException con su nombre
+     */
+    @Test
+    void verify_failsWhenIndexIsMissing() {
+        // Given
+        SchemaIndexVerifier migrated = new SchemaIndexVerifier(dataSource, List.of(
+                ExpectedIndex.unique("users", "email"),
+                ExpectedIndex.of("outbox_events", "delivered_at", "id")));
+        SchemaIndexVerifier missing = new SchemaIndexVerifier(dataSource, List.of(
+                ExpectedIndex.unique("users", "name")));
+
+        // When & Then
+        assertDoesNotThrow(migrated::verify);
+        IllegalStateException failure = assertThrows(IllegalStateException.class, missing::verify);
+        assertEquals("Missing database indexes: unique users(name)", failure.getMessage());
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.hexagonalapp.infrastructure.persistence.routing;
+
+import com.example.hexagonalapp.application.dto.UserPage;
+import com.example.hexagonalapp.application.port.in.CreateUserUseCase;
+import com.example.hexagonalapp.application.port.in.FindUserByEmailUseCase;
+import com.example.hexagonalapp.application.port.in.GetUserUseCase;
+import com.example.hexagonalapp.application.port.in.ListUsersUseCase;
+import com.example.hexagonalapp.domain.model.entity.User;
+import com.example.hexagonalapp.infrastructure.persistence.migration.SchemaMigrator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Read/write splitting against two local H2 instances: the primary from spring.datasource and a
+ * replica that only receives what the test copies into it, plus a replica that cannot be reached.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadWriteRoutingTest.PRIMARY_URL,
+        "app.datasource.routing.enabled=true",
+        "app.datasource.routing.replicas[0].url=" + ReadWriteRoutingTest.REPLICA_URL,
+        "app.datasource.routing.replicas[1].url=" + ReadWriteRoutingTest.MISSING_REPLICA_URL,
+        "app.datasource.routing.replica-retry-after=1h",
+        "app.outbox.poll-interval-millis=3600000"
+})
+class ReadWriteRoutingTest {
+    static final String PRIMARY_URL = "jdbc:h2:mem:rw-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:rw-replica;DB_CLOSE_DELAY=-1";
+    static final String MISSING_REPLICA_URL = "jdbc:h2:mem:rw-missing;IFEXISTS=TRUE";
+    private static final long REPLICA_ONLY_USER_ID = 900_001L;
+
+    private static JdbcTemplate replicaJdbcTemplate;
+
+    @Autowired
+    private CreateUserUseCase createUserUseCase;
+
+    @Autowired
+    private GetUserUseCase getUserUseCase;
+
+    @Autowired
+    private FindUserByEmailUseCase findUserByEmailUseCase;
+
+    @Autowired
+    private ListUsersUseCase listUsersUseCase;
+
+    @Autowired
+    private ReadWriteRoutingDataSource readWriteRoutingDataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUpReplica() {
+        // Stands in for replication: same schema, plus a row the primary does not have
+        DriverManagerDataSource replica = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        new SchemaMigrator(replica, new PathMatchingResourcePatternResolver(), "classpath:db/migration").migrate();
+        replicaJdbcTemplate = new JdbcTemplate(replica);
+        replicaJdbcTemplate.update("MERGE INTO users (id, name, email) KEY (id) VALUES (?, 'Replica User', 'replica@example.com')",
+                REPLICA_ONLY_USER_ID);
+    }
+
+    /**
+     * Test: getUser_readsFromReplica
+     * Descripción: Verifica que las consultas de GetUserUseCase se sirvan desde la réplica.
+     * - Datos: un usuario que solo existe en la réplica
+     * - Verifica: el usuario se encuentra aunque el primario no lo tenga
+     */
+    @Test
+    void getUser_readsFromReplica() {
+        // Given
+        assertEquals(0, countUsers(jdbcTemplate, "replica@example.com"));
+
+        // When
+        User user = getUserUseCase.getUser(REPLICA_ONLY_USER_ID);
+
+        // Then
+        assertEquals("Replica User", user.getName().getValue());
+    }
+
+    /**
+     * Test: listUsers_readsKeysetPagesFromReplica
+     * Descripción: Verifica que las páginas por clave de ListUsersUseCase también se lean de la réplica.
+     * - Datos: un usuario que solo existe en la réplica
+     * - Verifica: la página que empieza justo antes de su ID lo contiene
+     */
+    @Test
+    void listUsers_readsKeysetPagesFromReplica() {
+        // When
+        UserPage page = listUsersUseCase.listUsers(REPLICA_ONLY_USER_ID - 1, 1);
+
+        // Then
+        assertEquals(1, page.getItems().size());
+        assertEquals("replica@example.com", page.getItems().get(0).getEmail());
+    }
+
+    /**
+     * Test: createUser_writesPrimaryAndReadsOwnWrite
+     * Descripción: Verifica que el alta vaya al primario y que el usuario recién creado se pueda leer
+     * antes de que la réplica lo reciba (read-your-writes).
+     * - Verifica: fila en el primario y no en la réplica; getUser y findUserByEmail lo encuentran
+     */
+    @Test
+    void createUser_writesPrimaryAndReadsOwnWrite() {
+        // When
+        User created = createUserUseCase.createUser("Fresh User", "Fresh@Example.com");
+
+        // Then
+        assertEquals(1, countUsers(jdbcTemplate, "fresh@example.com"));
+        assertEquals(0, countUsers(replicaJdbcTemplate, "fresh@example.com"));
+        assertEquals("Fresh User", getUserUseCase.getUser(created.getId().getValue()).getName().getValue());
+        assertEquals(created.getId(), findUserByEmailUseCase.findUserByEmail("fresh@example.com").getId());
+    }
+
+    /**
+     * Test: unavailableReplica_isSkipped
+     * Descripción: Verifica que una réplica inalcanzable se salte y que las lecturas sigan en la réplica sana.
+     * - Verifica: todas las lecturas encuentran el usuario de la réplica; la réplica caída queda marcada como no disponible
+     */
+    @Test
+    void unavailableReplica_isSkipped() {
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertEquals("Replica User", getUserUseCase.getUser(REPLICA_ONLY_USER_ID).getName().getValue());
+        }
+
+        // Then
+        assertTrue(readWriteRoutingDataSource.isReplicaAvailable(0));
+        assertFalse(readWriteRoutingDataSource.isReplicaAvailable(1));
+    }
+
+    /**
+     * Test: noReplicaAvailable_fallsBackToPrimary
+     * Descripción: Verifica que una lectura de solo lectura use el primario cuando ninguna réplica responde.
+     * - Verifica: la conexión obtenida es la del primario
+     */
+    @Test
+    void noReplicaAvailable_fallsBackToPrimary() throws Exception {
+        // Given
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                new DriverManagerDataSource(PRIMARY_URL, "sa", ""),
+                List.of(new DriverManagerDataSource(MISSING_REPLICA_URL, "sa", "")),
+                Duration.ofHours(1));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        try (Connection connection = routing.getConnection()) {
+            // Then
+            assertEquals("jdbc:h2:mem:rw-primary", connection.getMetaData().getURL());
+            assertFalse(routing.isReplicaAvailable(0));
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private static int countUsers(JdbcTemplate template, String email) {
+        return template.queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, email);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.hexagonalapp.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesTest {
+
+    /**
+     * Test: recordWrite_staysBoundedWithinOnePinWindow
+     * Descripción: Verifica que más escrituras que maxEntries dentro de una misma ventana no hagan crecer el mapa
+     * y que, mientras dura la ventana, todas las lecturas vayan al primario.
+     * - Datos: maxEntries 100, 1000 escrituras en el mismo instante, ventana de 5 s
+     * - Verifica: el mapa no pasa de 100 claves; una clave no guardada y una nunca escrita se leen del primario;
+     *   pasada la ventana, las lecturas vuelven a las réplicas y el mapa se vacía
+     */
+    @Test
+    void recordWrite_staysBoundedWithinOnePinWindow() {
+        // Given
+        AtomicLong clock = new AtomicLong();
+        ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofSeconds(5), 100, clock::get);
+
+        // When
+        for (long id = 1; id <= 1000; id++) {
+            readYourWrites.recordWrite(id);
+        }
+
+        // Then
+        assertEquals(100, readYourWrites.size());
+        assertTrue(readYourWrites.read(1000L, ReadWriteRoutingDataSource::isPinnedToPrimary));
+        assertTrue(readYourWrites.read(5000L, ReadWriteRoutingDataSource::isPinnedToPrimary));
+        assertTrue(readYourWrites.readAll(List.of(5000L), ReadWriteRoutingDataSource::isPinnedToPrimary));
+
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertFalse(readYourWrites.read(1000L, ReadWriteRoutingDataSource::isPinnedToPrimary));
+        assertFalse(readYourWrites.readAll(List.of(5000L), ReadWriteRoutingDataSource::isPinnedToPrimary));
+        readYourWrites.recordWrite(2000L);
+        assertEquals(1, readYourWrites.size());
+        assertTrue(readYourWrites.read(2000L, ReadWriteRoutingDataSource::isPinnedToPrimary));
+    }
+
+    /**
+     * Test: read_pinsOnlyWrittenKeysBelowTheBound
+     * Descripción: Verifica que, sin llenar el mapa, solo las claves escritas se lean del primario.
+     * - Verifica: la clave escrita va al primario y otra clave no
+     */
+    @Test
+    void read_pinsOnlyWrittenKeysBelowTheBound() {
+        // Given
+        AtomicLong clock = new AtomicLong();
+        ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofSeconds(5), 100, clock::get);
+
+        // When
+        readYourWrites.recordWrite("fresh@example.com");
+
+        // Then
+        assertTrue(readYourWrites.read("fresh@example.com", ReadWriteRoutingDataSource::isPinnedToPrimary));
+        assertFalse(readYourWrites.read("other@example.com", ReadWriteRoutingDataSource::isPinnedToPrimary));
+    }
+}
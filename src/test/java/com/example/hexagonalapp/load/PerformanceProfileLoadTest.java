@@ -0,0 +1,123 @@
+package com.example.hexagonalapp.load;
+
+import com.example.hexagonalapp.HexagonalAppApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test comparing createUser/getUser throughput over HTTP with the default settings
+ * (in-memory H2, create-drop, SQL logging) and the performance profile (file-backed H2,
+ * fixed Hikari pool, statement caching, batching, no SQL logging).
+ * Run with {@code ./mvnw test -Pload-tests -Dtest=PerformanceProfileLoadTest}.
+ */
+@Tag("load")
+class PerformanceProfileLoadTest {
+    private static final int USERS = Integer.getInteger("load.users", 5_000);
+    private static final int GETS = Integer.getInteger("load.gets", 20_000);
+    private static final int CLIENTS = Integer.getInteger("load.clients", 16);
+
+    @TempDir
+    Path dataDirectory;
+
+    /**
+     * Test: createAndGetUser_defaultSettings
+     * Descripción: Mide el throughput de alta y consulta con la configuración por defecto.
+     * - Verifica: todas las altas y consultas responden 200
+     */
+    @Test
+    void createAndGetUser_defaultSettings() throws Exception {
+        run("default",
+                "--spring.datasource.url=jdbc:h2:mem:load-default");
+    }
+
+    /**
+     * Test: createAndGetUser_performanceProfile
+     * Descripción: Mide el throughput de alta y consulta con el perfil performance sobre H2 en fichero.
+     * - Verifica: todas las altas y consultas responden 200
+     */
+    @Test
+    void createAndGetUser_performanceProfile() throws Exception {
+        run("performance",
+                "--spring.profiles.active=performance",
+                "--spring.datasource.url=jdbc:h2:file:" + dataDirectory.resolve("load")
+                        + ";QUERY_CACHE_SIZE=64;CACHE_SIZE=65536;DB_CLOSE_ON_EXIT=FALSE");
+    }
+
+    private void run(String mode, String... args) throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(args));
+        arguments.add("--server.port=0");
+        // Only the settings under test differ; the outbox relay would compete for the same pool
+        arguments.add("--app.outbox.poll-interval-millis=3600000");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(HexagonalAppApplication.class)
+                .run(arguments.toArray(String[]::new))) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            HttpClient client = HttpClient.newHttpClient();
+            ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+            try {
+                IntFunction<HttpRequest> create = i -> HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/users"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"name\":\"Load User " + i + "\",\"email\":\"load" + i + "@example.com\"}"))
+                        .build();
+                IntFunction<HttpRequest> get = i -> HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/users/" + (i % USERS + 1))).build();
+
+                measure(mode, "POST /api/users", client, clients, USERS, create);
+                // Warm the read path before timing it, the create path is warm by now
+                fire(client, clients, GETS / 10, get);
+                measure(mode, "GET /api/users/{id}", client, clients, GETS, get);
+            } finally {
+                clients.shutdownNow();
+            }
+        }
+    }
+
+    private void measure(String mode, String operation, HttpClient client, ExecutorService clients,
+                         int requests, IntFunction<HttpRequest> request) throws Exception {
+        long start = System.nanoTime();
+        long ok = fire(client, clients, requests, request);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("[%s] %d x %s with %d clients: %.0f req/s (%.2f s)%n",
+                mode, requests, operation, CLIENTS, requests / seconds, seconds);
+        assertEquals(requests, ok);
+    }
+
+    private long fire(HttpClient client, ExecutorService clients, int requests, IntFunction<HttpRequest> request)
+            throws Exception {
+        List<Future<Long>> results = new ArrayList<>(CLIENTS);
+        for (int c = 0; c < CLIENTS; c++) {
+            int first = c;
+            results.add(clients.submit(() -> {
+                long ok = 0;
+                for (int i = first; i < requests; i += CLIENTS) {
+                    if (client.send(request.apply(i), HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        ok++;
+                    }
+                }
+                return ok;
+            }));
+        }
+        long ok = 0;
+        for (Future<Long> result : results) {
+            ok += result.get();
+        }
+        return ok;
+    }
+}
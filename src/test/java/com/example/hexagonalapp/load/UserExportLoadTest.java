@@ -0,0 +1,150 @@
+package com.example.hexagonalapp.load;
+
+import com.example.hexagonalapp.HexagonalAppApplication;
+import com.example.hexagonalapp.infrastructure.persistence.migration.SchemaMigrator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test exporting 1M users through GET /api/users/export from an application started in a
+ * separate JVM with a heap far smaller than the exported data. Buffering the result anywhere
+ * would end in an OutOfMemoryError and a truncated response. Run with {@code ./mvnw test -Pload-tests}.
+ */
+@Tag("load")
+class UserExportLoadTest {
+    private static final int USERS = Integer.getInteger("load.export.users", 1_000_000);
+    private static final String MAX_HEAP = System.getProperty("load.export.xmx", "96m");
+
+    /**
+     * Test: exportUsers_constantMemory
+     * Descripción: Exporta 1M usuarios en NDJSON desde una JVM con -Xmx96m y base H2 en fichero.
+     * - Datos: esquema de las migraciones y tabla users poblada por JDBC antes de arrancar la aplicación
+     * - Verifica: una línea por usuario, en orden de ID, sin que la aplicación se quede sin memoria
+     */
+    @Test
+    void exportUsers_constantMemory() throws Exception {
+        Path directory = Paths.get("target", "export-load").toAbsolutePath();
+        deleteRecursively(directory);
+        Files.createDirectories(directory);
+        String jdbcUrl = "jdbc:h2:file:" + directory.resolve("users");
+        seed(jdbcUrl);
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        Process application = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xmx" + MAX_HEAP,
+                "-XX:+ExitOnOutOfMemoryError",
+                "-cp", System.getProperty("java.class.path"),
+                HexagonalAppApplication.class.getName(),
+                "--server.port=" + port,
+                // Lazy execution lets H2 hand rows over as the cursor advances instead of materializing the result
+                "--spring.datasource.url=" + jdbcUrl + ";LAZY_QUERY_EXECUTION=TRUE",
+                "--spring.jpa.show-sql=false")
+                .redirectErrorStream(true)
+                .redirectOutput(directory.resolve("application.log").toFile())
+                .start();
+        try {
+            HttpClient client = HttpClient.newHttpClient();
+            awaitStarted(client, port, application);
+
+            long start = System.nanoTime();
+            HttpResponse<InputStream> response = client.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/users/export")).build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            assertEquals(200, response.statusCode());
+            long lines = 0;
+            String first = null;
+            String last = null;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (first == null) {
+                        first = line;
+                    }
+                    last = line;
+                    lines++;
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Exported %d users with -Xmx%s: %.0f rows/s (%.2f s)%n", lines, MAX_HEAP, lines / seconds, seconds);
+
+            assertTrue(application.isAlive(), "application died, see target/export-load/application.log");
+            assertEquals(USERS, lines);
+            assertEquals("{\"id\":1,\"name\":\"User 1\",\"email\":\"user1@example.com\"}", first);
+            assertEquals("{\"id\":" + USERS + ",\"name\":\"User " + USERS + "\",\"email\":\"user" + USERS + "@example.com\"}", last);
+        } finally {
+            application.destroy();
+            application.waitFor();
+        }
+    }
+
+    // Schema from the application's own migrations, then filled set-based in one statement; the
+    // application adopts it on startup and only validates it against the entities
+    private static void seed(String jdbcUrl) throws Exception {
+        new SchemaMigrator(new DriverManagerDataSource(jdbcUrl, "sa", ""), new PathMatchingResourcePatternResolver(),
+                "classpath:db/migration").migrate();
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users SELECT X, 'User ' || X, 'user' || X || '@example.com' "
+                    + "FROM SYSTEM_RANGE(1, " + USERS + ")");
+            statement.execute("ALTER SEQUENCE users_seq RESTART WITH " + (USERS + 1));
+        }
+    }
+
+    private static void awaitStarted(HttpClient client, int port, Process application) throws Exception {
+        HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/users?limit=1")).build();
+        long deadline = System.nanoTime() + Duration.ofMinutes(2).toNanos();
+        while (System.nanoTime() < deadline) {
+            assertTrue(application.isAlive(), "application failed to start, see target/export-load/application.log");
+            try {
+                if (client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        fail("application did not start within 2 minutes");
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            List<Path> files = paths.sorted(Comparator.reverseOrder()).toList();
+            for (Path path : files) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.hexagonalapp.load;
+
+import com.example.hexagonalapp.HexagonalAppApplication;
+import com.example.hexagonalapp.application.port.in.CreateUserUseCase;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test comparing GET /api/users/{id} throughput with 10k concurrent requests on the default
+ * platform-thread pool and on virtual threads. Run with {@code ./mvnw test -Pload-tests} on JDK 21+.
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+    private static final int USERS = 100;
+    private static final int CONCURRENT_REQUESTS = Integer.getInteger("load.requests", 10_000);
+
+    /**
+     * Test: getUser_platformThreads
+     * Descripción: Mide el throughput con el pool de hilos de plataforma por defecto de Tomcat.
+     * - Verifica: las 10k peticiones concurrentes responden 200
+     */
+    @Test
+    void getUser_platformThreads() throws Exception {
+        run("platform");
+    }
+
+    /**
+     * Test: getUser_virtualThreads
+     * Descripción: Mide el throughput con el perfil virtual-threads (requiere JDK 21).
+     * - Verifica: las 10k peticiones concurrentes responden 200
+     */
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void getUser_virtualThreads() throws Exception {
+        run("virtual-threads");
+    }
+
+    private void run(String mode) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(HexagonalAppApplication.class);
+        if (!"platform".equals(mode)) {
+            builder.profiles(mode);
+        }
+        try (ConfigurableApplicationContext context = builder.run(
+                "--server.port=0",
+                "--server.tomcat.max-connections=20000",
+                "--server.tomcat.accept-count=10000",
+                "--spring.jpa.show-sql=false",
+                "--spring.datasource.url=jdbc:h2:mem:load-" + mode)) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            CreateUserUseCase createUserUseCase = context.getBean(CreateUserUseCase.class);
+            for (int i = 0; i < USERS; i++) {
+                createUserUseCase.createUser("Load User " + i, "load" + i + "@example.com");
+            }
+
+            ExecutorService clientExecutor = Executors.newFixedThreadPool(8);
+            HttpClient client = HttpClient.newBuilder().executor(clientExecutor).build();
+            try {
+                fire(client, port, 1_000);
+                long start = System.nanoTime();
+                long ok = fire(client, port, CONCURRENT_REQUESTS);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf("[%s] %d concurrent GET /api/users/{id}: %.0f req/s (%.2f s)%n",
+                        mode, CONCURRENT_REQUESTS, CONCURRENT_REQUESTS / seconds, seconds);
+                assertEquals(CONCURRENT_REQUESTS, ok);
+            } finally {
+                clientExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private long fire(HttpClient client, int port, int requests) {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + "/api/users/" + (i % USERS + 1))).build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        return responses.stream()
+                .map(CompletableFuture::join)
+                .filter(response -> response.statusCode() == 200)
+                .count();
+    }
+}